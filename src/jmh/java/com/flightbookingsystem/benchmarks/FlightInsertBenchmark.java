@@ -0,0 +1,101 @@
+package com.flightbookingsystem.benchmarks;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.datagen.DatasetSpec;
+import com.flightbookingsystem.datagen.SyntheticDataGenerator;
+import com.flightbookingsystem.loadtest.EmbeddedApplication;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk flight inserts through JPA with ids from the pooled table generator, the write path of the flight import.
+ * {@code jdbcBatchSize=1} sends one statement per row, which is what every insert cost while ids came from
+ * AUTO_INCREMENT. Runs against in-memory H2, so the numbers show the relative gain rather than MySQL throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FlightInsertBenchmark {
+    private static final int FLUSH_EVERY = 1000;
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"1", "1000"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private String departureAirport;
+    private String arrivalAirport;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = EmbeddedApplication.start("--server.port=0");
+        SyntheticDataGenerator.GeneratedDataset data = EmbeddedApplication.seed(context,
+                new DatasetSpec(42L, 200, 1, 0, 0, 0, DEPARTURE.toLocalDate(), 1, "Bench123!"));
+        departureAirport = data.airportCodes().get(0);
+        arrivalAirport = data.airportCodes().get(1);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedFlights() {
+        jdbcTemplate.update("DELETE FROM flight");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insert() {
+        for (int from = 0; from < rows; from += FLUSH_EVERY) {
+            int to = Math.min(from + FLUSH_EVERY, rows);
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                for (int i = from; i < to; i++) {
+                    entityManager.persist(flight(i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return rows;
+    }
+
+    private Flight flight(int i) {
+        LocalDateTime departureTime = DEPARTURE.plusMinutes(i);
+        Flight flight = new Flight();
+        flight.setFlightNumber("FB" + (i % 10_000));
+        flight.setDepartureAirport(entityManager.getReference(Airport.class, departureAirport));
+        flight.setArrivalAirport(entityManager.getReference(Airport.class, arrivalAirport));
+        flight.setDepartureTime(departureTime);
+        flight.setArrivalTime(departureTime.plusHours(2));
+        flight.setDepartureInstant(departureTime.toInstant(ZoneOffset.UTC));
+        flight.setArrivalInstant(departureTime.plusHours(2).toInstant(ZoneOffset.UTC));
+        flight.setDuration(Duration.ofHours(2));
+        flight.setStartingPrice(new BigDecimal("99.00"));
+        return flight;
+    }
+}
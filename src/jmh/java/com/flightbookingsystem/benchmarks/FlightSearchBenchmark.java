@@ -0,0 +1,120 @@
+package com.flightbookingsystem.benchmarks;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import com.flightbookingsystem.datagen.DatasetSpec;
+import com.flightbookingsystem.datagen.SyntheticDataGenerator;
+import com.flightbookingsystem.dto.FlightDTO;
+import com.flightbookingsystem.loadtest.EmbeddedApplication;
+import com.flightbookingsystem.services.FlightService;
+import com.flightbookingsystem.services.implementations.RouteGraph;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flight search latency on one route as its history grows. {@code indexedRangeQuery} is the search endpoint's path,
+ * a range scan on the (departure_airport, arrival_airport, departure_time) index, and should stay flat;
+ * {@code routeScanThenFilter} loads the whole route and filters by date in Java, as the search did before, and grows
+ * with the history. Runs against in-memory H2 through the full service stack, each call in a read-only transaction
+ * standing in for the open session a web request gets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlightSearchBenchmark {
+    private static final int FLIGHTS_PER_DAY = 8;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+    @Param({"30", "365", "3650"})
+    public int historyDays;
+
+    private ConfigurableApplicationContext context;
+    private FlightService flightService;
+    private FlightRepository flightRepository;
+    private TransactionTemplate readOnly;
+    private String departureAirport;
+    private String arrivalAirport;
+    private LocalDate searchDate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = EmbeddedApplication.start("--server.port=0");
+        SyntheticDataGenerator.GeneratedDataset data = EmbeddedApplication.seed(context,
+                new DatasetSpec(42L, 200, 1, 0, 0, 0, FIRST_DAY, 1, "Bench123!"));
+        departureAirport = data.airportCodes().get(0);
+        arrivalAirport = data.airportCodes().get(1);
+        searchDate = FIRST_DAY.plusDays(historyDays / 2);
+
+        insertRouteHistory();
+        context.getBean(RouteGraph.class).load();
+        flightService = context.getBean(FlightService.class);
+        flightRepository = context.getBean(FlightRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<FlightDTO> indexedRangeQuery() {
+        return readOnly.execute(status ->
+                flightService.getFlightsDepartureAirportCodeAndArrivalAirportCodeAndDepartureDate(departureAirport, arrivalAirport, searchDate));
+    }
+
+    @Benchmark
+    public List<Flight> routeScanThenFilter() {
+        return readOnly.execute(status ->
+                flightRepository.findAllByDepartureAirportCodeAndArrivalAirportCode(departureAirport, arrivalAirport).stream()
+                        .filter(flight -> flight.getDepartureTime().toLocalDate().equals(searchDate))
+                        .toList());
+    }
+
+    private void insertRouteHistory() {
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        for (int day = 0; day < historyDays; day++) {
+            LocalDate date = FIRST_DAY.plusDays(day);
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(FLIGHTS_PER_DAY);
+                for (int i = 0; i < FLIGHTS_PER_DAY; i++) {
+                    entityManager.persist(flight(entityManager, date.atTime(6 + 2 * i, 0), i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private Flight flight(EntityManager entityManager, LocalDateTime departureTime, int number) {
+        Flight flight = new Flight();
+        flight.setFlightNumber("FB" + (100 + number));
+        flight.setDepartureAirport(entityManager.getReference(Airport.class, departureAirport));
+        flight.setArrivalAirport(entityManager.getReference(Airport.class, arrivalAirport));
+        flight.setDepartureTime(departureTime);
+        flight.setArrivalTime(departureTime.plusHours(2));
+        flight.setDepartureInstant(departureTime.toInstant(ZoneOffset.UTC));
+        flight.setArrivalInstant(departureTime.plusHours(2).toInstant(ZoneOffset.UTC));
+        flight.setDuration(Duration.ofHours(2));
+        flight.setStartingPrice(new BigDecimal("99.00"));
+        return flight;
+    }
+}
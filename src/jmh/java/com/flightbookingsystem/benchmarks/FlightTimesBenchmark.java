@@ -0,0 +1,60 @@
+package com.flightbookingsystem.benchmarks;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.data.repository.AirportRepository;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import com.flightbookingsystem.services.implementations.FlightTimes;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duration computation: the zone-rule based FlightTimes with its per-airport cache against the old raw-offset
+ * arithmetic, which was cheaper but wrong whenever daylight saving applied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlightTimesBenchmark {
+    private final LocalDateTime departureTime = LocalDateTime.of(2024, 3, 10, 6, 0);
+    private final LocalDateTime arrivalTime = LocalDateTime.of(2024, 3, 10, 11, 0);
+    private final TimeZone departureTimeZone = TimeZone.getTimeZone("Europe/Sofia");
+    private final TimeZone arrivalTimeZone = TimeZone.getTimeZone("America/New_York");
+    private FlightTimes flightTimes;
+
+    @Setup
+    public void setUp() {
+        AirportRepository airportRepository = Mockito.mock(AirportRepository.class);
+        Mockito.when(airportRepository.findById("SOF")).thenReturn(Optional.of(airport("SOF", departureTimeZone)));
+        Mockito.when(airportRepository.findById("JFK")).thenReturn(Optional.of(airport("JFK", arrivalTimeZone)));
+        flightTimes = new FlightTimes(airportRepository, Mockito.mock(FlightRepository.class));
+        flightTimes.normalize("SOF", departureTime, "JFK", arrivalTime);
+    }
+
+    @Benchmark
+    public FlightTimes.NormalizedTimes zoneRules() {
+        return flightTimes.normalize("SOF", departureTime, "JFK", arrivalTime);
+    }
+
+    @Benchmark
+    public Duration rawOffsets() {
+        int offsetBetweenAirportsInMinutes = departureTimeZone.getRawOffset() / 60000 - arrivalTimeZone.getRawOffset() / 60000;
+        return Duration.between(departureTime, arrivalTime.plusMinutes(offsetBetweenAirportsInMinutes));
+    }
+
+    private static Airport airport(String code, TimeZone timeZone) {
+        City city = new City();
+        city.setCode(code);
+        city.setTimeZone(timeZone);
+        return new Airport(code, code, city, null, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.flightbookingsystem.benchmarks;
+
+import com.flightbookingsystem.config.JwtConfig;
+import com.flightbookingsystem.config.JwtTokenProvider;
+import com.flightbookingsystem.config.JwtTokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and the three ways a request token can be checked: the verifier's cache hit, a full parse with a
+ * prebuilt parser, and the old per-call key and parser construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String SECRET = "flight-booking-system-benchmark-signing-key";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenVerifier tokenVerifier;
+    private JwtParser parser;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        JwtConfig jwtConfig = new JwtConfig() {
+            @Override
+            public Long getExpirationMs() {
+                return 3_600_000L;
+            }
+        };
+        tokenVerifier = new JwtTokenVerifier(key, new SimpleMeterRegistry());
+        tokenProvider = new JwtTokenProvider(jwtConfig, key, tokenVerifier);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        authentication = UsernamePasswordAuthenticationToken.authenticated("user@example.com", null,
+                List.of(new SimpleGrantedAuthority("USER")));
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Optional<JwtTokenVerifier.VerifiedToken> verifyCached() {
+        return tokenVerifier.verify(token);
+    }
+
+    @Benchmark
+    public Claims parseWithPrebuiltParser() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims parseWithPerCallParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
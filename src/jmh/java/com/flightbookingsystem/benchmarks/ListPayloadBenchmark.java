@@ -0,0 +1,126 @@
+package com.flightbookingsystem.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.datagen.DatasetSpec;
+import com.flightbookingsystem.loadtest.EmbeddedApplication;
+import com.flightbookingsystem.mappers.FlightMapper;
+import com.flightbookingsystem.mappers.TicketMapper;
+import com.flightbookingsystem.services.FlightService;
+import com.flightbookingsystem.services.TicketService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * One page of {@code GET /flights} and {@code GET /tickets}, built the way the list endpoints used to (entities mapped
+ * to FlightDTO/TicketDTO, which embed whole entities) and through the flat summary projections that replaced them.
+ * Besides the time per call, each benchmark reports the statements it prepared ({@code queries}) and the size of the
+ * JSON body ({@code responseBytes}). Runs against in-memory H2, each call in a read-only transaction standing in for
+ * the open session the web request serializes in, so lazy loads during serialization are counted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListPayloadBenchmark {
+    @Param({"50", "500"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private FlightService flightService;
+    private TicketService ticketService;
+    private FlightMapper flightMapper;
+    private TicketMapper ticketMapper;
+    private ObjectMapper objectMapper;
+    private Statistics statistics;
+    private TransactionTemplate readOnly;
+
+    /**
+     * Cost of the last call; every call on a page is identical, so this is also the cost per call.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Cost {
+        public long queries;
+        public long responseBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = EmbeddedApplication.start("--server.port=0", "--spring.jpa.properties.hibernate.generate_statistics=true");
+        EmbeddedApplication.seed(context,
+                new DatasetSpec(42L, 200, 3, 5_000, 1_000, 3, DatasetSpec.DEFAULT_FIRST_DAY, 30, "Bench123!"));
+        entityManager = context.getBean(EntityManager.class);
+        flightService = context.getBean(FlightService.class);
+        ticketService = context.getBean(TicketService.class);
+        flightMapper = context.getBean(FlightMapper.class);
+        ticketMapper = context.getBean(TicketMapper.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] flightsAsEntityDtos(Cost cost) {
+        return respond(cost, () -> entityManager.createQuery("SELECT f FROM Flight f ORDER BY f.id", Flight.class)
+                .setMaxResults(pageSize)
+                .getResultList().stream()
+                .map(flightMapper::toFlightDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] flightsAsSummaries(Cost cost) {
+        return respond(cost, () -> flightService.getFlights(null, pageSize));
+    }
+
+    @Benchmark
+    public byte[] ticketsAsEntityDtos(Cost cost) {
+        return respond(cost, () -> entityManager.createQuery("SELECT t FROM Ticket t ORDER BY t.bookingReference", Ticket.class)
+                .setMaxResults(pageSize)
+                .getResultList().stream()
+                .map(ticketMapper::toTicketDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] ticketsAsSummaries(Cost cost) {
+        return respond(cost, () -> ticketService.getTickets(null, pageSize));
+    }
+
+    private byte[] respond(Cost cost, Supplier<Object> body) {
+        return readOnly.execute(status -> {
+            long before = statistics.getPrepareStatementCount();
+            byte[] json;
+            try {
+                json = objectMapper.writeValueAsBytes(body.get());
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            cost.queries = statistics.getPrepareStatementCount() - before;
+            cost.responseBytes = json.length;
+            return json;
+        });
+    }
+}
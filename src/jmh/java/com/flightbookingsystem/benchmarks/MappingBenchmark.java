@@ -0,0 +1,63 @@
+package com.flightbookingsystem.benchmarks;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.data.entity.Country;
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.CountryCode;
+import com.flightbookingsystem.dto.FlightDTO;
+import com.flightbookingsystem.mappers.FlightMapper;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flight to FlightDTO mapping with the generated MapStruct mapper against the reflective ModelMapper it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+    private final FlightMapper flightMapper = Mappers.getMapper(FlightMapper.class);
+    private final ModelMapper modelMapper = new ModelMapper();
+    private Flight flight;
+
+    @Setup
+    public void setUp() {
+        Country country = new Country(1L, CountryCode.BGR, "Bulgaria", null);
+        City city = new City("SOF", "Sofia", country, null, TimeZone.getTimeZone("Europe/Sofia"));
+        Airport departureAirport = new Airport("SOF", "Sofia Airport", city, null, null);
+        Airport arrivalAirport = new Airport("VAR", "Varna Airport", city, null, null);
+
+        flight = new Flight();
+        flight.setId(1L);
+        flight.setFlightNumber("FB101");
+        flight.setDepartureAirport(departureAirport);
+        flight.setArrivalAirport(arrivalAirport);
+        flight.setDepartureTime(LocalDateTime.of(2024, 7, 1, 10, 0));
+        flight.setArrivalTime(LocalDateTime.of(2024, 7, 1, 11, 0));
+        flight.setStartingPrice(new BigDecimal("99.90"));
+        flight.setDuration(Duration.ofHours(1));
+
+        modelMapper.map(flight, FlightDTO.class);
+    }
+
+    @Benchmark
+    public FlightDTO mapStruct() {
+        return flightMapper.toFlightDTO(flight);
+    }
+
+    @Benchmark
+    public FlightDTO modelMapper() {
+        return modelMapper.map(flight, FlightDTO.class);
+    }
+}
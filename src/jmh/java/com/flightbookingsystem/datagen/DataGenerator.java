@@ -0,0 +1,56 @@
+package com.flightbookingsystem.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line entry point for {@link SyntheticDataGenerator}. Writes either a SQL dump ({@code --out=data.sql}) or
+ * straight into a database ({@code --jdbc-url=... --jdbc-user=... --jdbc-password=...}). The target schema must
+ * already exist and be empty, e.g. created by starting the application once.
+ * <p>
+ * Other options, with defaults: {@code --seed=42 --airports=500 --routes-per-airport=6 --flights=100000
+ * --users=10000 --tickets-per-user=3 --start-date=2030-01-01 --days=30 --password=Password123! --batch-size=1000}.
+ */
+public final class DataGenerator {
+    private DataGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --option=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        DatasetSpec spec = DatasetSpec.fromOptions(options);
+        int batchSize = Integer.parseInt(options.getOrDefault("batch-size", "1000"));
+        long start = System.nanoTime();
+
+        RowSink sink;
+        if (options.containsKey("jdbc-url")) {
+            sink = new JdbcRowSink(DriverManager.getConnection(options.get("jdbc-url"),
+                    options.get("jdbc-user"), options.get("jdbc-password")), batchSize);
+        } else {
+            Path out = Path.of(options.getOrDefault("out", "build/datagen/data.sql"));
+            if (out.getParent() != null) {
+                Files.createDirectories(out.getParent());
+            }
+            BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8);
+            sink = new SqlDumpRowSink(writer, batchSize);
+        }
+
+        try (sink) {
+            new SyntheticDataGenerator(spec).generate(sink);
+        }
+        System.out.printf("Generated %s in %d ms%n", spec, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,49 @@
+package com.flightbookingsystem.datagen;
+
+import com.flightbookingsystem.data.enums.CountryCode;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Size and shape of a generated data set. The same spec always produces the same rows.
+ */
+public record DatasetSpec(long seed,
+                          int airports,
+                          int routesPerAirport,
+                          int flights,
+                          int users,
+                          int ticketsPerUser,
+                          LocalDate firstDay,
+                          int days,
+                          String password) {
+    public static final int MAX_AIRPORTS = 26 * 26 * 26;
+    /**
+     * Fixed so that a spec read from the same options is the same on every run; pass {@code --start-date} to place
+     * the flights relative to today.
+     */
+    public static final LocalDate DEFAULT_FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+    public DatasetSpec {
+        if (airports < CountryCode.values().length || airports > MAX_AIRPORTS) {
+            throw new IllegalArgumentException("Airports must be between " + CountryCode.values().length
+                    + " (one per country) and " + MAX_AIRPORTS);
+        }
+        if (routesPerAirport < 1 || flights < 0 || users < 0 || ticketsPerUser < 0 || days < 1) {
+            throw new IllegalArgumentException("Counts must not be negative and days must be positive");
+        }
+    }
+
+    public static DatasetSpec fromOptions(Map<String, String> options) {
+        return new DatasetSpec(
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Integer.parseInt(options.getOrDefault("airports", "500")),
+                Integer.parseInt(options.getOrDefault("routes-per-airport", "6")),
+                Integer.parseInt(options.getOrDefault("flights", "100000")),
+                Integer.parseInt(options.getOrDefault("users", "10000")),
+                Integer.parseInt(options.getOrDefault("tickets-per-user", "3")),
+                LocalDate.parse(options.getOrDefault("start-date", DEFAULT_FIRST_DAY.toString())),
+                Integer.parseInt(options.getOrDefault("days", "30")),
+                options.getOrDefault("password", "Password123!"));
+    }
+}
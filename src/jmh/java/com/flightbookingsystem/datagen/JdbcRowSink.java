@@ -0,0 +1,104 @@
+package com.flightbookingsystem.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.TimeZone;
+
+/**
+ * Writes rows with batched prepared statements and commits after every batch. On MySQL the connection URL should
+ * carry {@code rewriteBatchedStatements=true} so a batch becomes one multi-row insert. Instants are bound with a UTC
+ * calendar, the same way Hibernate stores them under {@code NORMALIZE_UTC}.
+ */
+public class JdbcRowSink implements RowSink {
+    private static final Calendar UTC = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+    private final Connection connection;
+    private final int batchSize;
+
+    public JdbcRowSink(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public TableWriter table(String table, String... columns) {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        try {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            return new TableWriter() {
+                private int pending;
+
+                @Override
+                public void row(Object... values) {
+                    try {
+                        for (int i = 0; i < values.length; i++) {
+                            if (values[i] instanceof Instant instant) {
+                                statement.setTimestamp(i + 1, Timestamp.from(instant), UTC);
+                            } else if (values[i] instanceof Enum<?> constant) {
+                                statement.setString(i + 1, constant.name());
+                            } else {
+                                statement.setObject(i + 1, values[i]);
+                            }
+                        }
+                        statement.addBatch();
+                        if (++pending == batchSize) {
+                            flush();
+                        }
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("Insert into " + table + " failed", e);
+                    }
+                }
+
+                @Override
+                public void close() {
+                    try (statement) {
+                        if (pending > 0) {
+                            flush();
+                        }
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("Insert into " + table + " failed", e);
+                    }
+                }
+
+                private void flush() throws SQLException {
+                    statement.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            };
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void execute(String sql) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (connection) {
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
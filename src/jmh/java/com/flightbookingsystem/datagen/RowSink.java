@@ -0,0 +1,21 @@
+package com.flightbookingsystem.datagen;
+
+/**
+ * Destination for generated rows. Rows of one table are written through a {@link TableWriter} that is closed before
+ * the next table is opened, so tables arrive in foreign key order.
+ */
+public interface RowSink extends AutoCloseable {
+    TableWriter table(String table, String... columns);
+
+    void execute(String sql);
+
+    @Override
+    void close();
+
+    interface TableWriter extends AutoCloseable {
+        void row(Object... values);
+
+        @Override
+        void close();
+    }
+}
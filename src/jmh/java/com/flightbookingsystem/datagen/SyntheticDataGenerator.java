@@ -0,0 +1,417 @@
+package com.flightbookingsystem.datagen;
+
+import com.flightbookingsystem.data.enums.CountryCode;
+import com.flightbookingsystem.data.enums.CreditCardType;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.data.enums.Gender;
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import com.flightbookingsystem.services.implementations.FarePricing;
+import com.flightbookingsystem.services.implementations.SeatInventory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates a deterministic data set from a {@link DatasetSpec}: every {@link CountryCode} with at least one city and
+ * airport, a route network whose airport degrees follow a power law (a few hubs, a long tail of small airports),
+ * flights whose local and UTC times agree with the airports' zone rules, and users with personal info, an
+ * identification document, a credit card and tickets on distinct seats.
+ * <p>
+ * Rows are streamed to a {@link RowSink}; only countries, cities, airports, routes and each flight's starting price are
+ * held in memory. Tickets are priced with {@link FarePricing} as if booked one to 90 days before departure. Every user
+ * shares the spec's password so load generators can log in.
+ */
+public class SyntheticDataGenerator {
+    private static final double POPULARITY_EXPONENT = 1.1;
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ra", "to", "ve", "sa", "ne", "du", "ri", "po", "la",
+            "ban", "tor", "vel", "mar", "sen", "dor", "li", "na"};
+    private static final String[] AIRPORT_SUFFIXES = {"International", "Airport", "Regional", "City Airport"};
+    private static final String[] FIRST_NAMES = {"Maria", "Ivan", "Elena", "Georgi", "Anna", "Peter", "Sofia", "Luca",
+            "Emma", "Noah", "Yuki", "Omar", "Lea", "Daniel", "Nina", "Mateo", "Aisha", "Viktor", "Chloe", "Hugo"};
+    private static final String[] LAST_NAMES = {"Petrova", "Ivanov", "Rossi", "Muller", "Garcia", "Smith", "Tanaka",
+            "Dubois", "Novak", "Kowalski", "Silva", "Jensen", "Yilmaz", "Haddad", "Kim", "Nielsen", "Popescu", "Costa"};
+    private static final String[] AIRLINES = {"FB", "BG", "LH", "AF", "TK", "EK", "BA", "AA"};
+    private static final long NEXT_ID_MARGIN = 1000;
+
+    private final DatasetSpec spec;
+    private final String passwordHash;
+
+    private final CountryCode[] countries = CountryCode.values();
+    private final ZoneId[] countryZones = new ZoneId[countries.length];
+    private final List<City> cities = new ArrayList<>();
+    private final List<Airport> airports = new ArrayList<>();
+    private final List<Route> routes = new ArrayList<>();
+    private long[] startingPrices;
+    private double[] airportWeights;
+
+    private record City(String code, String name, int country) {
+    }
+
+    private record Airport(String code, String name, City city, ZoneId zone) {
+    }
+
+    private record Route(int departure, int arrival, int blockMinutes, int number) {
+    }
+
+    /**
+     * A route that has flights, for load generators that want searches with results.
+     */
+    public record RoutePair(String departureAirport, String arrivalAirport) {
+    }
+
+    public record GeneratedDataset(List<String> airportCodes, List<RoutePair> routes, int users, String password) {
+    }
+
+    public SyntheticDataGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.passwordHash = BCrypt.hashpw(spec.password(), BCrypt.gensalt(10, seededSecureRandom(spec.seed())));
+    }
+
+    public static String username(int user) {
+        return "user" + user + "@example.com";
+    }
+
+    public GeneratedDataset generate(RowSink sink) {
+        Random random = new Random(spec.seed());
+        loadCountryZones();
+        buildNetwork(random);
+
+        writeReferenceData(sink);
+        writeFlights(sink, random);
+        writeUsers(sink);
+        writeIdGenerators(sink);
+
+        List<RoutePair> routePairs = routes.stream()
+                .map(route -> new RoutePair(airports.get(route.departure()).code(), airports.get(route.arrival()).code()))
+                .toList();
+        return new GeneratedDataset(airports.stream().map(Airport::code).toList(), routePairs, spec.users(), spec.password());
+    }
+
+    private void loadCountryZones() {
+        Properties zones = new Properties();
+        try (InputStream input = getClass().getResourceAsStream("/datagen/country-zones.properties")) {
+            zones.load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (int i = 0; i < countries.length; i++) {
+            countryZones[i] = ZoneId.of(zones.getProperty(countries[i].name()));
+        }
+    }
+
+    private void buildNetwork(Random random) {
+        double[] countryWeights = popularity(countries.length, random);
+        int cityCount = Math.max(countries.length, (int) Math.round(spec.airports() / 1.2));
+        for (int i = 0; i < cityCount; i++) {
+            int country = i < countries.length ? i : sample(cumulative(countryWeights), random);
+            cities.add(new City(code(i), placeName(random), country));
+        }
+
+        double[] cityWeights = popularity(cityCount, random);
+        double[] cityCumulative = cumulative(cityWeights);
+        for (int i = 0; i < spec.airports(); i++) {
+            City city = cities.get(i < cityCount ? i : sample(cityCumulative, random));
+            String name = city.name() + " " + AIRPORT_SUFFIXES[random.nextInt(AIRPORT_SUFFIXES.length)];
+            airports.add(new Airport(code(i), name, city, countryZones[city.country()]));
+        }
+
+        // Preferential attachment: both ends are drawn by popularity, so a handful of hubs collect most routes
+        airportWeights = popularity(airports.size(), random);
+        double[] airportCumulative = cumulative(airportWeights);
+        Set<Long> existing = new HashSet<>();
+        for (int i = 0; i < airports.size(); i++) {
+            int hub;
+            do {
+                hub = sample(airportCumulative, random);
+            } while (hub == i);
+            addRoutePair(i, hub, existing, random);
+        }
+        long target = (long) airports.size() * spec.routesPerAirport();
+        for (long attempts = 0; routes.size() < target && attempts < target * 20; attempts++) {
+            int departure = sample(airportCumulative, random);
+            int arrival = sample(airportCumulative, random);
+            if (departure != arrival) {
+                addRoutePair(departure, arrival, existing, random);
+            }
+        }
+    }
+
+    private void addRoutePair(int first, int second, Set<Long> existing, Random random) {
+        if (!existing.add((long) first * airports.size() + second)) {
+            return;
+        }
+        existing.add((long) second * airports.size() + first);
+        boolean domestic = airports.get(first).city().country() == airports.get(second).city().country();
+        int blockMinutes = domestic ? 40 + random.nextInt(140) : 70 + random.nextInt(12 * 60);
+        routes.add(new Route(first, second, blockMinutes, routes.size()));
+        routes.add(new Route(second, first, blockMinutes, routes.size()));
+    }
+
+    private void writeReferenceData(RowSink sink) {
+        try (RowSink.TableWriter table = sink.table("country", "id", "country_code", "name")) {
+            for (int i = 0; i < countries.length; i++) {
+                table.row((long) i + 1, countries[i], countries[i].getCountryCode());
+            }
+        }
+        try (RowSink.TableWriter table = sink.table("city", "city_code", "name", "country_id", "time_zone")) {
+            for (City city : cities) {
+                table.row(city.code(), city.name(), (long) city.country() + 1, countryZones[city.country()].getId());
+            }
+        }
+        try (RowSink.TableWriter table = sink.table("airport", "code", "name", "city_code")) {
+            for (Airport airport : airports) {
+                table.row(airport.code(), airport.name(), airport.city().code());
+            }
+        }
+        try (RowSink.TableWriter table = sink.table("role", "id", "authority")) {
+            table.row(1L, "USER");
+        }
+    }
+
+    private void writeFlights(RowSink sink, Random random) {
+        double[] routeWeights = new double[routes.size()];
+        for (int i = 0; i < routes.size(); i++) {
+            routeWeights[i] = airportWeights[routes.get(i).departure()] * airportWeights[routes.get(i).arrival()];
+        }
+        double[] routeCumulative = cumulative(routeWeights);
+        startingPrices = new long[spec.flights()];
+
+        try (RowSink.TableWriter table = sink.table("flight", "id", "flight_number", "departure_airport",
+                "arrival_airport", "departure_time", "arrival_time", "departure_instant", "arrival_instant",
+                "flight_status", "starting_price", "duration")) {
+            for (int i = 0; i < spec.flights(); i++) {
+                Route route = routes.get(sample(routeCumulative, random));
+                Airport departure = airports.get(route.departure());
+                Airport arrival = airports.get(route.arrival());
+
+                LocalDateTime scheduled = spec.firstDay().plusDays(random.nextInt(spec.days())).atTime(5, 0)
+                        .plusMinutes(5L * random.nextInt(19 * 12));
+                // Local times inside a DST gap are shifted forward, so store the resolved local time
+                ZonedDateTime departureTime = scheduled.atZone(departure.zone());
+                Instant departureInstant = departureTime.toInstant();
+                Instant arrivalInstant = departureInstant.plus(Duration.ofMinutes(route.blockMinutes()));
+                long priceCents = 3000 + route.blockMinutes() * 15L + random.nextInt(route.blockMinutes() * 10);
+                startingPrices[i] = priceCents;
+
+                table.row((long) i + 1,
+                        AIRLINES[route.number() % AIRLINES.length] + (100 + route.number() / AIRLINES.length % 9000),
+                        departure.code(),
+                        arrival.code(),
+                        departureTime.toLocalDateTime(),
+                        LocalDateTime.ofInstant(arrivalInstant, arrival.zone()),
+                        departureInstant,
+                        arrivalInstant,
+                        FlightStatus.SCHEDULED,
+                        BigDecimal.valueOf(priceCents, 2),
+                        (long) route.blockMinutes());
+            }
+        }
+    }
+
+    /**
+     * Each user's attributes come from a random seeded by the user index, so every table pass below sees the same
+     * person without keeping users in memory.
+     */
+    private record Person(int index, String firstName, String lastName, CountryCode nationality, Gender gender,
+                          LocalDate dateOfBirth, CreditCardType cardType, Random random) {
+        String identificationNumber() {
+            return String.format("%s%010d", nationality.name(), index);
+        }
+
+        String cardNumber() {
+            return (cardType == CreditCardType.VISA ? "4" : "5") + String.format("%015d", index);
+        }
+    }
+
+    private Person person(int index) {
+        Random random = new Random(spec.seed() * 31 + index);
+        return new Person(index,
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                countries[random.nextInt(countries.length)],
+                random.nextBoolean() ? Gender.MALE : Gender.FEMALE,
+                spec.firstDay().minusYears(18 + random.nextInt(60)).minusDays(random.nextInt(365)),
+                random.nextBoolean() ? CreditCardType.VISA : CreditCardType.MASTERCARD,
+                random);
+    }
+
+    private void writeUsers(RowSink sink) {
+        try (RowSink.TableWriter table = sink.table("credit_card", "card_number", "card_holder_name", "expiry_date",
+                "cvv", "card_type")) {
+            for (int i = 0; i < spec.users(); i++) {
+                Person person = person(i);
+                table.row(person.cardNumber(),
+                        (person.firstName() + " " + person.lastName()).toUpperCase(),
+                        spec.firstDay().plusMonths(1 + person.random().nextInt(60)),
+                        String.format("%03d", person.random().nextInt(1000)),
+                        person.cardType());
+            }
+        }
+        try (RowSink.TableWriter table = sink.table("identification_document", "identification_number", "first_name",
+                "last_name", "date_of_birth", "expiry_date", "nationality", "gender")) {
+            for (int i = 0; i < spec.users(); i++) {
+                Person person = person(i);
+                table.row(person.identificationNumber(),
+                        person.firstName(),
+                        person.lastName(),
+                        person.dateOfBirth(),
+                        spec.firstDay().plusDays(1 + person.random().nextInt(3650)),
+                        person.nationality(),
+                        person.gender());
+            }
+        }
+        try (RowSink.TableWriter table = sink.table("personal_info", "id", "identification_number", "first_name",
+                "last_name", "phone_number", "card_number")) {
+            for (int i = 0; i < spec.users(); i++) {
+                Person person = person(i);
+                table.row((long) i + 1,
+                        person.identificationNumber(),
+                        person.firstName(),
+                        person.lastName(),
+                        String.format("%010d", 8_000_000_000L + i),
+                        person.cardNumber());
+            }
+        }
+        try (RowSink.TableWriter table = sink.table("user", "username", "password", "personal_info_id")) {
+            for (int i = 0; i < spec.users(); i++) {
+                table.row(username(i), passwordHash, (long) i + 1);
+            }
+        }
+        try (RowSink.TableWriter table = sink.table("user_authorities", "user_username", "authorities_id")) {
+            for (int i = 0; i < spec.users(); i++) {
+                table.row(username(i), 1L);
+            }
+        }
+        writeTickets(sink);
+    }
+
+    private void writeTickets(RowSink sink) {
+        if (spec.flights() == 0) {
+            return;
+        }
+        short[] seatsTaken = new short[spec.flights()];
+        TravelClass[] travelClasses = TravelClass.values();
+        LuggageType[] luggageTypes = LuggageType.values();
+        long bookingNumber = 0;
+
+        try (RowSink.TableWriter table = sink.table("ticket", "booking_reference", "flight_id", "seat", "travel_class",
+                "luggage_type", "user_id", "price")) {
+            for (int i = 0; i < spec.users(); i++) {
+                Random random = new Random(spec.seed() * 17 + i);
+                int tickets = random.nextInt(2 * spec.ticketsPerUser() + 1);
+                for (int t = 0; t < tickets; t++) {
+                    int flight = random.nextInt(spec.flights());
+                    if (seatsTaken[flight] == SeatInventory.SEAT_COUNT) {
+                        continue;
+                    }
+                    int seat = seatsTaken[flight]++;
+                    TravelClass travelClass = travelClasses[random.nextInt(travelClasses.length)];
+                    LuggageType luggageType = luggageTypes[random.nextInt(luggageTypes.length)];
+                    long secondsToDeparture = Duration.ofDays(1 + random.nextInt(90)).toSeconds();
+                    table.row(String.format("SYN%09d", bookingNumber++),
+                            (long) flight + 1,
+                            (seat / SeatInventory.SEATS_PER_ROW + 1) + String.valueOf((char) ('A' + seat % SeatInventory.SEATS_PER_ROW)),
+                            travelClass,
+                            luggageType,
+                            username(i),
+                            FarePricing.toAmount(FarePricing.price(startingPrices[flight], travelClass, luggageType, seat, secondsToDeparture)));
+                }
+            }
+        }
+    }
+
+    private void writeIdGenerators(RowSink sink) {
+        sink.execute("DELETE FROM id_generator WHERE entity IN ('country', 'flight', 'personal_info', 'role')");
+        try (RowSink.TableWriter table = sink.table("id_generator", "entity", "next_id")) {
+            table.row("country", countries.length + NEXT_ID_MARGIN);
+            table.row("flight", spec.flights() + NEXT_ID_MARGIN);
+            table.row("personal_info", spec.users() + NEXT_ID_MARGIN);
+            table.row("role", 1 + NEXT_ID_MARGIN);
+        }
+    }
+
+    private static String code(int index) {
+        char[] code = new char[3];
+        for (int i = 2; i >= 0; i--) {
+            code[i] = (char) ('A' + index % 26);
+            index /= 26;
+        }
+        return new String(code);
+    }
+
+    private static String placeName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    /**
+     * Zipf-like weights over a shuffled ranking, so popularity does not follow the index order.
+     */
+    private static double[] popularity(int size, Random random) {
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++) {
+            ranks[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = swap;
+        }
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1.0 / Math.pow(ranks[i] + 1, POPULARITY_EXPONENT);
+        }
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private static SecureRandom seededSecureRandom(long seed) {
+        // SHA1PRNG is deterministic when seeded before first use, which keeps the password hash reproducible
+        try {
+            SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+            random.setSeed(seed);
+            return random;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.flightbookingsystem.loadtest;
+
+import com.flightbookingsystem.FlightBookingSystemApplication;
+import com.flightbookingsystem.datagen.DatasetSpec;
+import com.flightbookingsystem.datagen.JdbcRowSink;
+import com.flightbookingsystem.datagen.SyntheticDataGenerator;
+import com.flightbookingsystem.services.implementations.RouteGraph;
+import com.flightbookingsystem.services.implementations.SeatInventory;
+import com.flightbookingsystem.services.implementations.TypeaheadIndex;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application against an in-memory H2 database, for the load generator and the benchmarks that need the
+ * full persistence stack.
+ */
+public final class EmbeddedApplication {
+    private EmbeddedApplication() {
+    }
+
+    /**
+     * Starts the application; {@code extraArgs} must not repeat a property set here.
+     */
+    public static ConfigurableApplicationContext start(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--jwt.secret=" + UUID.randomUUID() + UUID.randomUUID(),
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--outbox.dispatch-interval-ms=3600000"));
+        args.addAll(List.of(extraArgs));
+        return SpringApplication.run(FlightBookingSystemApplication.class, args.toArray(String[]::new));
+    }
+
+    public static SyntheticDataGenerator.GeneratedDataset seed(ConfigurableApplicationContext context, DatasetSpec spec) throws Exception {
+        SyntheticDataGenerator.GeneratedDataset data;
+        try (JdbcRowSink sink = new JdbcRowSink(context.getBean(DataSource.class).getConnection(), 1000)) {
+            data = new SyntheticDataGenerator(spec).generate(sink);
+        }
+        // The rows bypassed JPA, so rebuild the indexes that were loaded from the empty database at startup
+        context.getBean(SeatInventory.class).load();
+        context.getBean(RouteGraph.class).load();
+        context.getBean(TypeaheadIndex.class).load();
+        return data;
+    }
+}
@@ -0,0 +1,230 @@
+package com.flightbookingsystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flightbookingsystem.config.JwtTokenProvider;
+import com.flightbookingsystem.datagen.DatasetSpec;
+import com.flightbookingsystem.datagen.SyntheticDataGenerator;
+import com.flightbookingsystem.services.implementations.SeatInventory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application on a random port against an in-memory H2 database, seeds it with the
+ * {@link SyntheticDataGenerator} and drives the login, flight search, booking and ticket listing endpoints from a fixed
+ * number of closed-loop workers. Each scenario gets a warmup phase that is discarded and a measured phase whose
+ * throughput and latency percentiles are written as JSON to the path given as the first argument. Requests answered
+ * with 409 Conflict, such as a booking for a seat that is already taken, are counted apart from errors.
+ * <p>
+ * Tunable through system properties: {@code loadtest.threads}, {@code loadtest.warmupSeconds},
+ * {@code loadtest.durationSeconds}, {@code loadtest.seed}, {@code loadtest.airports}, {@code loadtest.flights} and
+ * {@code loadtest.users}.
+ */
+public final class LoadGenerator {
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final int AIRPORTS = Integer.getInteger("loadtest.airports", 200);
+    private static final int FLIGHTS = Integer.getInteger("loadtest.flights", 20000);
+    private static final int USERS = Integer.getInteger("loadtest.users", 500);
+    private static final LocalDate FIRST_DAY = LocalDate.now().plusDays(1);
+    private static final int DAYS = 7;
+
+    private interface Scenario {
+        int call(HttpClient client, Random random) throws IOException, InterruptedException;
+    }
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        File reportFile = new File(args.length > 0 ? args[0] : "build/reports/loadtest/report.json");
+
+        ConfigurableApplicationContext context = EmbeddedApplication.start("--server.port=0");
+        try {
+            SyntheticDataGenerator.GeneratedDataset data = EmbeddedApplication.seed(context,
+                    new DatasetSpec(SEED, AIRPORTS, 3, FLIGHTS, USERS, 3, FIRST_DAY, DAYS, "LoadTest123!"));
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<String> tokens = mintTokens(context.getBean(JwtTokenProvider.class), data.users());
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("threads", THREADS);
+            report.put("warmupSeconds", WARMUP_SECONDS);
+            report.put("durationSeconds", DURATION_SECONDS);
+            report.put("virtualThreads", context.getEnvironment().getProperty("app.virtual-threads.enabled", Boolean.class, false));
+
+            Map<String, Object> scenarios = new LinkedHashMap<>();
+            scenarios.put("login", run((client, random) -> {
+                String username = SyntheticDataGenerator.username(random.nextInt(data.users()));
+                String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                        + "&password=" + URLEncoder.encode(data.password(), StandardCharsets.UTF_8);
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+                // Successful form logins redirect to /home, failures to /login?error
+                boolean success = response.statusCode() == 302
+                        && response.headers().firstValue("Location").orElse("").contains("/home");
+                return success ? 200 : 401;
+            }));
+            scenarios.put("flightSearch", run((client, random) -> {
+                SyntheticDataGenerator.RoutePair route = data.routes().get(random.nextInt(data.routes().size()));
+                String body = "{\"departureAirport\":{\"code\":\"" + route.departureAirport() + "\"},"
+                        + "\"arrivalAirport\":{\"code\":\"" + route.arrivalAirport() + "\"},"
+                        + "\"departureDate\":\"" + FIRST_DAY.plusDays(random.nextInt(DAYS)) + "\"}";
+                return client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/flights/flight-search"))
+                        .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            }));
+            AtomicLong bookings = new AtomicLong();
+            scenarios.put("booking", run((client, random) -> {
+                // Walks every flight before reusing one, taking seats from the back of the cabin while the seeded
+                // tickets fill it from the front, so conflicts only appear once the two meet
+                long booking = bookings.getAndIncrement();
+                long flightId = booking % FLIGHTS + 1;
+                int seat = SeatInventory.SEAT_COUNT - 1 - (int) (booking / FLIGHTS % SeatInventory.SEAT_COUNT);
+                String body = "{\"flight\":{\"id\":" + flightId + "},"
+                        + "\"seat\":\"" + (seat / SeatInventory.SEATS_PER_ROW + 1) + (char) ('A' + seat % SeatInventory.SEATS_PER_ROW) + "\","
+                        + "\"travelClass\":\"ECONOMY\",\"luggageType\":\"CABIN\"}";
+                return client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/tickets"))
+                        .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            }));
+            scenarios.put("ticketPage", run((client, random) ->
+                    client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/tickets?size=50"))
+                            .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                            .GET()
+                            .build(), HttpResponse.BodyHandlers.discarding()).statusCode()));
+            report.put("scenarios", scenarios);
+
+            reportFile.getParentFile().mkdirs();
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+            System.out.println("Load test report written to " + reportFile.getAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<String> mintTokens(JwtTokenProvider tokenProvider, int users) {
+        // The JSON /login endpoint is shadowed by form login, so bearer tokens are issued in-process
+        List<String> tokens = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            tokens.add(tokenProvider.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                    SyntheticDataGenerator.username(i), null, List.of(new SimpleGrantedAuthority("USER")))));
+        }
+        return tokens;
+    }
+
+    private static Map<String, Object> run(Scenario scenario) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        phase(client, scenario, WARMUP_SECONDS);
+        return phase(client, scenario, DURATION_SECONDS);
+    }
+
+    private static Map<String, Object> phase(HttpClient client, Scenario scenario, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long[][] latencies = new long[THREADS][];
+        int[] counts = new int[THREADS];
+        int[] errors = new int[THREADS];
+        int[] conflicts = new int[THREADS];
+        CountDownLatch done = new CountDownLatch(THREADS);
+
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        for (int w = 0; w < THREADS; w++) {
+            int worker = w;
+            workers.execute(() -> {
+                Random random = new Random(worker);
+                long[] samples = new long[1024];
+                int count = 0;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = scenario.call(client, random);
+                        } catch (IOException e) {
+                            status = -1;
+                        }
+                        if (status == 409) {
+                            conflicts[worker]++;
+                        } else if (status < 200 || status >= 300) {
+                            errors[worker]++;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latencies[worker] = samples;
+                    counts[worker] = count;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+
+        int total = Arrays.stream(counts).sum();
+        long[] merged = new long[total];
+        int offset = 0;
+        for (int w = 0; w < THREADS; w++) {
+            System.arraycopy(latencies[w], 0, merged, offset, counts[w]);
+            offset += counts[w];
+        }
+        Arrays.sort(merged);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", total);
+        result.put("errors", Arrays.stream(errors).sum());
+        result.put("conflicts", Arrays.stream(conflicts).sum());
+        result.put("throughputPerSecond", total / (double) seconds);
+        result.put("p50Ms", percentile(merged, 0.50));
+        result.put("p90Ms", percentile(merged, 0.90));
+        result.put("p99Ms", percentile(merged, 0.99));
+        result.put("p999Ms", percentile(merged, 0.999));
+        result.put("maxMs", merged.length == 0 ? 0.0 : merged[merged.length - 1] / 1_000_000.0);
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
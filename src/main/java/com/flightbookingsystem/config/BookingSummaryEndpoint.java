@@ -0,0 +1,30 @@
+package com.flightbookingsystem.config;
+
+import com.flightbookingsystem.services.BookingSummaryService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/bookingsummaries}: rebuilds the materialized booking summaries from the ticket table. POST with
+ * {@code username} to repair one user, or with no body to rebuild every user and drop rows of deleted users.
+ */
+@Component
+@Endpoint(id = "bookingsummaries")
+@AllArgsConstructor
+public class BookingSummaryEndpoint {
+    private final BookingSummaryService bookingSummaryService;
+
+    @WriteOperation
+    public Map<String, Long> rebuild(@Nullable String username) {
+        if (username != null && !username.isBlank()) {
+            bookingSummaryService.rebuild(username);
+            return Map.of("rebuilt", 1L);
+        }
+        return Map.of("rebuilt", bookingSummaryService.rebuild());
+    }
+}
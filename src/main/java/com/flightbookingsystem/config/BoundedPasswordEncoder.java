@@ -0,0 +1,92 @@
+package com.flightbookingsystem.config;
+
+import com.flightbookingsystem.exceptions.PasswordHashingOverloadedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs a CPU-heavy {@link PasswordEncoder} on a fixed, bounded pool so a burst of logins cannot occupy every request
+ * thread. When the queue is full, or a hash waits longer than the timeout, callers get a 503 with Retry-After instead
+ * of piling up behind it. A stored bcrypt hash whose cost differs from the configured one, in either direction, is
+ * reported for re-encoding so a changed strength setting converges on the next login.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder delegate;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final long retryAfterSeconds;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int cost, ThreadPoolExecutor executor, Duration waitTimeout, long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.cost = cost;
+        this.executor = executor;
+        this.waitTimeout = waitTimeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingOverloadedException("Too many concurrent password checks, please retry", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingOverloadedException("Password check timed out, please retry", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.flightbookingsystem.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Caffeine-backed reference-data caches. Size, TTL and statistics are configured through
+ * {@code spring.cache.caffeine.spec}; with stats recorded the caches are published as {@code cache.*} actuator metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String AIRPORTS = "airports";
+    public static final String CITIES = "cities";
+    public static final String COUNTRIES = "countries";
+}
@@ -1,6 +1,5 @@
 package com.flightbookingsystem.config;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.datetime.DateFormatter;
@@ -12,12 +11,6 @@ import org.springframework.format.support.FormattingConversionService;
 @Configuration
 public class Config {
 
-    @Bean
-    public ModelMapper modelMapper() {
-
-        return new ModelMapper();
-    }
-
     @Bean
     public FormattingConversionService conversionService() {
 
@@ -0,0 +1,49 @@
+package com.flightbookingsystem.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests carrying an {@code Authorization: Bearer} token issued by {@code /login}. The principal comes
+ * from the verified claims; authorities are never taken from the token but from {@link UserAuthorities}, so a token
+ * for a deleted or demoted user stops granting access once the short authority cache expires.
+ */
+@Component
+@AllArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final UserAuthorities userAuthorities;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            jwtTokenVerifier.verify(header.substring(BEARER_PREFIX.length()).trim())
+                    .flatMap(verified -> userAuthorities.of(verified.username())
+                            .map(authorities -> UsernamePasswordAuthenticationToken.authenticated(verified.username(), null, authorities)))
+                    .ifPresent(authentication -> {
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(authentication);
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,15 +1,34 @@
 package com.flightbookingsystem.config;
 
+import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 @Getter
 public class JwtConfig {
-    @Value("${jwt.secret}")
+    public static final int MIN_SECRET_BYTES = 32;
+
+    @Value("${jwt.secret:}")
     private String secret;
 
     @Value("${jwt.expirationMs}")
     private Long expirationMs;
+
+    @Bean
+    public SecretKey jwtSigningKey() {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("jwt.secret is not set; provide a signing key of at least 256 bits through JWT_SECRET");
+        }
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("jwt.secret must be at least 256 bits (" + MIN_SECRET_BYTES + " bytes), got " + key.length + " bytes");
+        }
+        return Keys.hmacShaKeyFor(key);
+    }
 }
@@ -1,51 +1,45 @@
 package com.flightbookingsystem.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Autowired;
+import lombok.AllArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.util.Date;
 
 @Component
+@AllArgsConstructor
 public class JwtTokenProvider {
-
-    @Autowired
-    private JwtConfig jwtConfig;
+    private final JwtConfig jwtConfig;
+    private final SecretKey jwtSigningKey;
+    private final JwtTokenVerifier jwtTokenVerifier;
 
     public String generateToken(Authentication authentication) {
         // Generate a JWT token based on the user's authentication details
         // Include user roles and any other relevant information in the claims
 
+        Date issuedAt = new Date();
         return Jwts.builder()
                 .setSubject(authentication.getName())
-                .claim("authorities", authentication.getAuthorities()) // Store user roles/authorities
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(new Date().getTime() + jwtConfig.getExpirationMs()))
-                .signWith(Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes()), SignatureAlgorithm.HS256)
+                .claim("authorities", authentication.getAuthorities().stream() // Store user roles/authorities
+                        .map(GrantedAuthority::getAuthority)
+                        .toList())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + jwtConfig.getExpirationMs()))
+                .signWith(jwtSigningKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes()));
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return jwtTokenVerifier.verify(token).isPresent();
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return jwtTokenVerifier.verify(token)
+                .map(JwtTokenVerifier.VerifiedToken::username)
+                .orElse(null);
     }
 }
-
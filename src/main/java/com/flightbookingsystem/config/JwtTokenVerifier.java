@@ -0,0 +1,84 @@
+package com.flightbookingsystem.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Verifies signed JWTs with a parser built once at startup. Tokens that pass signature and expiry checks are
+ * remembered in a bounded cache until they expire, so repeat requests with the same token skip the HMAC work.
+ */
+@Component
+public class JwtTokenVerifier {
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenVerifier(SecretKey jwtSigningKey, MeterRegistry meterRegistry) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(jwtSigningKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_TOKENS)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerifiedTokens");
+    }
+
+    public record VerifiedToken(String username, Instant expiresAt) {
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
+            verifiedTokens.put(token, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), verified.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.flightbookingsystem.config;
+
+import com.flightbookingsystem.dto.CursorPageDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public service method ({@value #SERVICE_TIMER}) and every mapper call ({@value #MAPPER_TIMER}), and
+ * records how many rows list calls return ({@value #ROWS_SUMMARY}). Repository calls are timed by Spring Boot as
+ * {@code spring.data.repository.invocations}, so a request can be split into SQL, mapping and the rest, which is
+ * mostly serialization. Successful invocations reuse a meter cached per method to keep the hot path cheap.
+ */
+@Aspect
+@Component
+public class MethodMetricsAspect {
+    public static final String SERVICE_TIMER = "service.invocations";
+    public static final String MAPPER_TIMER = "mapper.invocations";
+    public static final String ROWS_SUMMARY = "service.rows.returned";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<Method, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.flightbookingsystem.services.implementations.*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = time(SERVICE_TIMER, joinPoint);
+        int rows = rowCount(result);
+        if (rows >= 0) {
+            rowSummaries.computeIfAbsent(method(joinPoint), method -> DistributionSummary.builder(ROWS_SUMMARY)
+                            .tag("class", className(joinPoint))
+                            .tag("method", method.getName())
+                            .register(meterRegistry))
+                    .record(rows);
+        }
+        return result;
+    }
+
+    @Around("execution(public * com.flightbookingsystem.mappers.*Mapper.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(MAPPER_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            timer(name, joinPoint, e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        successTimers.computeIfAbsent(method(joinPoint), method -> timer(name, joinPoint, NO_EXCEPTION))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private Timer timer(String name, ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder(name)
+                .tag("class", className(joinPoint))
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private static Method method(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+
+    private static String className(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof CursorPageDTO<?> page) {
+            return page.getItems().size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,62 @@
+package com.flightbookingsystem.config;
+
+import com.flightbookingsystem.exceptions.PasswordHashingOverloadedException;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+
+import java.io.IOException;
+
+/**
+ * Answers 503 with Retry-After when a login failed only because password hashing is saturated, and passes every other
+ * failure on to the wrapped handler. Form and basic logins run in the security filters, so the overload arrives here
+ * as an {@link AuthenticationException} and never reaches the MVC exception resolvers.
+ */
+public class PasswordHashingOverloadHandler implements AuthenticationFailureHandler, AuthenticationEntryPoint {
+    private final AuthenticationFailureHandler failureHandler;
+    private final AuthenticationEntryPoint entryPoint;
+
+    public PasswordHashingOverloadHandler(AuthenticationFailureHandler failureHandler, AuthenticationEntryPoint entryPoint) {
+        this.failureHandler = failureHandler;
+        this.entryPoint = entryPoint;
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
+        PasswordHashingOverloadedException overload = findOverload(exception);
+        if (overload != null) {
+            reject(response, overload);
+        } else {
+            failureHandler.onAuthenticationFailure(request, response, exception);
+        }
+    }
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException {
+        PasswordHashingOverloadedException overload = findOverload(authException);
+        if (overload != null) {
+            reject(response, overload);
+        } else {
+            entryPoint.commence(request, response, authException);
+        }
+    }
+
+    private static PasswordHashingOverloadedException findOverload(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordHashingOverloadedException overload) {
+                return overload;
+            }
+        }
+        return null;
+    }
+
+    private static void reject(HttpServletResponse response, PasswordHashingOverloadedException overload) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, overload.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), overload.getReason());
+    }
+}
@@ -1,19 +1,29 @@
 package com.flightbookingsystem.config;
 
 
+import com.flightbookingsystem.config.logging.UserMdcFilter;
+import com.flightbookingsystem.exceptions.PasswordHashingOverloadedException;
 import com.flightbookingsystem.services.UserService;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -25,30 +35,48 @@ import java.util.List;
 @Configuration
 public class SecurityConfig {
     private final UserService userService;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
-    public SecurityConfig(UserService userService){
+    public SecurityConfig(UserService userService, JwtAuthenticationFilter jwtAuthenticationFilter){
         this.userService = userService;
+        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(){
-        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder){
+        DaoAuthenticationProvider authenticationProvider = new OverloadReportingAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userService);
-        authenticationProvider.setPasswordEncoder(passwordEncoder());
+        authenticationProvider.setUserDetailsPasswordService(userService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
         return authenticationProvider;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        // The filter runs inside the security chain only, not as a standalone servlet filter
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        BasicAuthenticationEntryPoint basicEntryPoint = new BasicAuthenticationEntryPoint();
+        basicEntryPoint.setRealmName("Realm");
+        PasswordHashingOverloadHandler overloadHandler =
+                new PasswordHashingOverloadHandler(new CustomAuthenticationFailureHandler(), basicEntryPoint);
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new UserMdcFilter(), AuthorizationFilter.class)
                 .authorizeHttpRequests((authorize) -> authorize
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class))
+                        .permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint())
+                        .hasRole("ADMIN")
+                        .requestMatchers("/tickets:batch", "/flights:batch")
+                        .authenticated()
                         .requestMatchers("/*")
                         .permitAll()
                         .anyRequest().authenticated()
@@ -60,7 +88,7 @@ public class SecurityConfig {
                         .usernameParameter("username")
                         .passwordParameter("password")
                         .successHandler(new CustomAuthenticationSuccessHandler())
-                        .failureHandler(new CustomAuthenticationFailureHandler())
+                        .failureHandler(overloadHandler)
                 )
                 .logout((logout) -> logout
                         .logoutUrl("/logout")
@@ -70,7 +98,9 @@ public class SecurityConfig {
                 .exceptionHandling((exceptionHandling) -> exceptionHandling
                         .accessDeniedPage("/unauthorized")
                 )
-                .httpBasic(Customizer.withDefaults());
+                .httpBasic((httpBasic) -> httpBasic
+                        .authenticationEntryPoint(overloadHandler)
+                );
         return http.build();
     }
 
@@ -90,4 +120,20 @@ public class SecurityConfig {
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
+
+    /**
+     * A saturated password hash pool for a known user would otherwise escape the login filters as a plain runtime
+     * exception; unknown users already get it wrapped by the timing-attack check. Wrapping both the same way routes
+     * them to {@link PasswordHashingOverloadHandler}.
+     */
+    private static class OverloadReportingAuthenticationProvider extends DaoAuthenticationProvider {
+        @Override
+        public Authentication authenticate(Authentication authentication) {
+            try {
+                return super.authenticate(authentication);
+            } catch (PasswordHashingOverloadedException e) {
+                throw new InternalAuthenticationServiceException(e.getReason(), e);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.flightbookingsystem.config;
+
+import com.flightbookingsystem.services.UserService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Current authorities of a user as stored in the database, cached for a short time. Bearer requests take their
+ * authorities from here rather than from the token, so a role change, deletion or lockout takes effect within the
+ * cache TTL instead of lasting until the token expires.
+ */
+@Component
+public class UserAuthorities {
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final UserService userService;
+    private final Cache<String, Optional<List<GrantedAuthority>>> authorities;
+
+    public UserAuthorities(UserService userService, MeterRegistry meterRegistry,
+                           @Value("${jwt.authorities-ttl-ms:30000}") long ttlMs) {
+        this.userService = userService;
+        this.authorities = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_USERS)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authorities, "userAuthorities");
+    }
+
+    /**
+     * Authorities of an active user, or empty when the user no longer exists or may not log in.
+     */
+    public Optional<List<GrantedAuthority>> of(String username) {
+        return authorities.get(username, this::load);
+    }
+
+    private Optional<List<GrantedAuthority>> load(String username) {
+        UserDetails user;
+        try {
+            user = userService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            return Optional.empty();
+        }
+        if (!user.isEnabled() || !user.isAccountNonLocked() || !user.isAccountNonExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(user.getAuthorities().stream()
+                .<GrantedAuthority>map(authority -> new SimpleGrantedAuthority(authority.getAuthority()))
+                .toList());
+    }
+}
@@ -0,0 +1,34 @@
+package com.flightbookingsystem.config.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class SqlMonitoringConfig {
+    @Bean
+    public static BeanPostProcessor statementTimingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                           ObjectProvider<TraceTargets> traceTargets,
+                                                                           Environment environment) {
+        Duration slowThreshold = Duration.ofMillis(environment.getProperty("app.sql.slow-threshold-ms", Long.class, 250L));
+        double sampleRate = environment.getProperty("app.sql.slow-log-sample-rate", Double.class, 1.0);
+        int maxStatements = environment.getProperty("app.sql.max-statement-metrics", Integer.class, 200);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementTimingDataSource)) {
+                    return new StatementTimingDataSource(dataSource, meterRegistry, traceTargets, slowThreshold,
+                            sampleRate, maxStatements);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.flightbookingsystem.config.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Best-effort mapping from each {@code ?} placeholder of a statement to the column it is bound against, so traced bind
+ * values can be shown for ordinary columns and hidden for secrets. Placeholders whose column cannot be worked out are
+ * reported as {@code null} and must be treated as sensitive.
+ */
+final class SqlParameterColumns {
+    private static final Pattern INSERT = Pattern.compile(
+            "(?is)^\\s*insert\\s+into\\s+[\\w.`\"]+\\s*\\(([^)]*)\\)\\s*values\\s*\\(([^)]*)\\)");
+    private static final Pattern COMPARISON = Pattern.compile(
+            "(?is)([\\w.`\"]+)\\s*(?:=|<>|!=|<=|>=|<|>|\\blike)\\s*$");
+    private static final Pattern IN_LIST = Pattern.compile("(?is)([\\w.`\"]+)\\s+in\\s*\\(\\s*$");
+    private static final Pattern LIST_CONTINUATION = Pattern.compile(",\\s*$");
+    private static final Pattern SENSITIVE = Pattern.compile(
+            "password|passwd|secret|token|cvv|cvc|card_number|security_code|identification_number|iban");
+
+    private SqlParameterColumns() {
+    }
+
+    static List<String> of(String sql) {
+        List<String> columns = new ArrayList<>();
+        int from = 0;
+
+        Matcher insert = INSERT.matcher(sql);
+        if (insert.find()) {
+            List<String> names = Arrays.stream(insert.group(1).split(",")).map(String::trim).toList();
+            String[] values = insert.group(2).split(",");
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].trim().equals("?")) {
+                    columns.add(i < names.size() ? unqualified(names.get(i)) : null);
+                }
+            }
+            from = insert.end();
+        }
+
+        String inListColumn = null;
+        boolean quoted = false;
+        for (int i = from; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c != '?' || quoted) {
+                continue;
+            }
+            String before = sql.substring(Math.max(from, i - 200), i);
+            Matcher comparison = COMPARISON.matcher(before);
+            Matcher inList = IN_LIST.matcher(before);
+            if (comparison.find()) {
+                columns.add(unqualified(comparison.group(1)));
+                inListColumn = null;
+            } else if (inList.find()) {
+                inListColumn = unqualified(inList.group(1));
+                columns.add(inListColumn);
+            } else if (inListColumn != null && LIST_CONTINUATION.matcher(before).find()) {
+                columns.add(inListColumn);
+            } else {
+                columns.add(null);
+                inListColumn = null;
+            }
+        }
+        return columns;
+    }
+
+    static boolean isSensitive(String column) {
+        return column == null || SENSITIVE.matcher(column).find();
+    }
+
+    private static String unqualified(String column) {
+        String name = column.substring(column.lastIndexOf('.') + 1).replace("`", "").replace("\"", "");
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,232 @@
+package com.flightbookingsystem.config.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Times every JDBC statement into a per-statement {@value #TIMER} histogram and writes statements slower than the
+ * threshold to the {@code com.flightbookingsystem.sql.slow} logger, sampled so a burst of slow queries cannot flood
+ * the log. For traced users and requests the statement and its bind parameters also go to
+ * {@code com.flightbookingsystem.sql.trace}; this replaces Hibernate's bind logging, whose level is fixed at startup.
+ * Only values bound to columns known to be harmless are written; parameters for secrets such as passwords and card
+ * data, or whose column cannot be determined, are logged by type only.
+ * <p>
+ * Statements are identified by their SQL with whitespace collapsed and {@code IN} lists folded, and at most
+ * {@code maxStatements} distinct ones get their own timer.
+ */
+public class StatementTimingDataSource extends DelegatingDataSource {
+    public static final String TIMER = "sql.statements";
+    private static final String OTHER_STATEMENTS = "other";
+    private static final int MAX_NORMALIZED_CACHE = 2048;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Logger SLOW_LOG = LoggerFactory.getLogger("com.flightbookingsystem.sql.slow");
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger("com.flightbookingsystem.sql.trace");
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<TraceTargets> traceTargets;
+    private final long slowThresholdNanos;
+    private final double slowLogSampleRate;
+    private final int maxStatements;
+
+    private final Map<String, String> normalizedStatements = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> parameterColumns = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry resolvedMeterRegistry;
+    private volatile TraceTargets resolvedTraceTargets;
+
+    public StatementTimingDataSource(DataSource targetDataSource,
+                                     ObjectProvider<MeterRegistry> meterRegistry,
+                                     ObjectProvider<TraceTargets> traceTargets,
+                                     Duration slowThreshold,
+                                     double slowLogSampleRate,
+                                     int maxStatements) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+        this.traceTargets = traceTargets;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSampleRate = slowLogSampleRate;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                        return wrap(statement, (String) args[0]);
+                    }
+                    if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                        return wrap(statement, null);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                new StatementHandler(statement, preparedSql));
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSql;
+        private Map<Integer, Object> parameters;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                long start = System.nanoTime();
+                try {
+                    return StatementTimingDataSource.invoke(statement, method, args);
+                } finally {
+                    record(sql, System.nanoTime() - start, parameters);
+                }
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                    && isTraced()) {
+                if (parameters == null) {
+                    parameters = new TreeMap<>();
+                }
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters") && parameters != null) {
+                parameters.clear();
+            }
+            return StatementTimingDataSource.invoke(statement, method, args);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private boolean isTraced() {
+        // Both collaborators are looked up lazily because the data source is created before them
+        TraceTargets targets = resolvedTraceTargets;
+        if (targets == null) {
+            targets = resolvedTraceTargets = traceTargets.getIfAvailable();
+        }
+        return targets != null && targets.isTraced();
+    }
+
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = resolvedMeterRegistry;
+        if (registry == null) {
+            registry = resolvedMeterRegistry = meterRegistry.getIfAvailable();
+        }
+        return registry;
+    }
+
+    private void record(String sql, long nanos, Map<Integer, Object> parameters) {
+        if (sql == null) {
+            return;
+        }
+        String statement = normalize(sql);
+
+        MeterRegistry registry = meterRegistry();
+        if (registry != null) {
+            Timer timer = timers.get(statement);
+            if (timer == null) {
+                String tag = timers.size() < maxStatements ? statement : OTHER_STATEMENTS;
+                timer = timers.computeIfAbsent(tag, key -> Timer.builder(TIMER).tag("statement", key).register(registry));
+            }
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (nanos >= slowThresholdNanos && SLOW_LOG.isWarnEnabled()
+                && (slowLogSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowLogSampleRate)) {
+            SLOW_LOG.warn("Slow SQL ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), statement);
+        }
+        if (TRACE_LOG.isTraceEnabled()) {
+            TRACE_LOG.trace("SQL ({} ms): {} parameters {}", TimeUnit.NANOSECONDS.toMillis(nanos), sql,
+                    describe(sql, parameters));
+        }
+    }
+
+    private String describe(String sql, Map<Integer, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return "[]";
+        }
+        List<String> columns = parameterColumns.get(sql);
+        if (columns == null) {
+            columns = SqlParameterColumns.of(sql);
+            if (parameterColumns.size() < MAX_NORMALIZED_CACHE) {
+                parameterColumns.put(sql, columns);
+            }
+        }
+        StringJoiner described = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+            int position = parameter.getKey() - 1;
+            String column = position >= 0 && position < columns.size() ? columns.get(position) : null;
+            String label = column == null ? "?" + parameter.getKey() : column;
+            Object value = parameter.getValue();
+            if (value == null) {
+                described.add(label + "=null");
+            } else if (SqlParameterColumns.isSensitive(column)) {
+                described.add(label + "=<" + value.getClass().getSimpleName() + ">");
+            } else {
+                described.add(label + "=" + value);
+            }
+        }
+        return described.toString();
+    }
+
+    private String normalize(String sql) {
+        String normalized = normalizedStatements.get(sql);
+        if (normalized == null) {
+            normalized = PARAMETER_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?)");
+            if (normalizedStatements.size() < MAX_NORMALIZED_CACHE) {
+                normalizedStatements.put(sql, normalized);
+            }
+        }
+        return normalized;
+    }
+}
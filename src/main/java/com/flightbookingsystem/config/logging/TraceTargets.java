@@ -0,0 +1,123 @@
+package com.flightbookingsystem.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Users and request ids that should be logged at full detail. While a target is active, a logback turbo filter
+ * accepts every log call made on behalf of that user or request regardless of the configured levels; all other
+ * requests keep their normal levels. Targets expire on their own so a forgotten trace does not stay on.
+ */
+@Component
+public class TraceTargets {
+    public static final String USER = "user";
+    public static final String REQUEST_ID = "requestId";
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private final Map<String, Instant> users = new ConcurrentHashMap<>();
+    private final Map<String, Instant> requestIds = new ConcurrentHashMap<>();
+    private final TurboFilter turboFilter = new TraceTurboFilter();
+    private volatile boolean active;
+
+    @PostConstruct
+    public void install() {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (loggerFactory instanceof LoggerContext loggerContext) {
+            turboFilter.start();
+            loggerContext.addTurboFilter(turboFilter);
+        }
+    }
+
+    @PreDestroy
+    public void uninstall() {
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext) {
+            loggerContext.getTurboFilterList().remove(turboFilter);
+        }
+    }
+
+    public void traceUser(String user, Duration ttl) {
+        users.put(user, Instant.now().plus(ttl));
+        active = true;
+    }
+
+    public void traceRequest(String requestId, Duration ttl) {
+        requestIds.put(requestId, Instant.now().plus(ttl));
+        active = true;
+    }
+
+    public void stopTracingUser(String user) {
+        users.remove(user);
+        refreshActive();
+    }
+
+    public void stopTracingRequest(String requestId) {
+        requestIds.remove(requestId);
+        refreshActive();
+    }
+
+    public void clear() {
+        users.clear();
+        requestIds.clear();
+        refreshActive();
+    }
+
+    public Map<String, Instant> users() {
+        return Map.copyOf(users);
+    }
+
+    public Map<String, Instant> requestIds() {
+        return Map.copyOf(requestIds);
+    }
+
+    /**
+     * Whether the current thread works on behalf of a traced user or request, judged by the logging MDC.
+     */
+    public boolean isTraced() {
+        if (!active) {
+            return false;
+        }
+        return matches(users, MDC.get(USER)) || matches(requestIds, MDC.get(REQUEST_ID));
+    }
+
+    private boolean matches(Map<String, Instant> targets, String key) {
+        if (key == null) {
+            return false;
+        }
+        Instant expiresAt = targets.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt.isBefore(Instant.now())) {
+            targets.remove(key, expiresAt);
+            refreshActive();
+            return false;
+        }
+        return true;
+    }
+
+    private void refreshActive() {
+        active = !users.isEmpty() || !requestIds.isEmpty();
+    }
+
+    private final class TraceTurboFilter extends TurboFilter {
+        @Override
+        public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+            return isTraced() ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+        }
+    }
+}
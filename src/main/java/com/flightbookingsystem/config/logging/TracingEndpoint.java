@@ -0,0 +1,56 @@
+package com.flightbookingsystem.config.logging;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * {@code /actuator/tracing}: turns full logging on or off for one user or request id without a restart.
+ * POST with {@code user} and/or {@code requestId} (optionally {@code ttlSeconds}), DELETE with the same keys, or with
+ * none to stop all tracing. Like every actuator endpoint apart from health and info it requires {@code ROLE_ADMIN}.
+ */
+@Component
+@Endpoint(id = "tracing")
+@AllArgsConstructor
+public class TracingEndpoint {
+    private final TraceTargets traceTargets;
+
+    @ReadOperation
+    public Map<String, Map<String, Instant>> targets() {
+        return Map.of("users", traceTargets.users(), "requestIds", traceTargets.requestIds());
+    }
+
+    @WriteOperation
+    public Map<String, Map<String, Instant>> enable(@Nullable String user, @Nullable String requestId, @Nullable Long ttlSeconds) {
+        Duration ttl = ttlSeconds == null || ttlSeconds <= 0 ? TraceTargets.DEFAULT_TTL : Duration.ofSeconds(ttlSeconds);
+        if (user != null && !user.isBlank()) {
+            traceTargets.traceUser(user, ttl);
+        }
+        if (requestId != null && !requestId.isBlank()) {
+            traceTargets.traceRequest(requestId, ttl);
+        }
+        return targets();
+    }
+
+    @DeleteOperation
+    public Map<String, Map<String, Instant>> disable(@Nullable String user, @Nullable String requestId) {
+        if (user == null && requestId == null) {
+            traceTargets.clear();
+        }
+        if (user != null) {
+            traceTargets.stopTracingUser(user);
+        }
+        if (requestId != null) {
+            traceTargets.stopTracingRequest(requestId);
+        }
+        return targets();
+    }
+}
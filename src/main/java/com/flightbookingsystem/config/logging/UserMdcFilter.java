@@ -0,0 +1,35 @@
+package com.flightbookingsystem.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Puts the authenticated username in the logging MDC. Runs inside the security chain after authentication, so
+ * per-user tracing covers authorization and everything past it.
+ */
+public class UserMdcFilter extends OncePerRequestFilter {
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(TraceTargets.USER, authentication.getName());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(TraceTargets.USER);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Objects;
 import java.util.Set;
@@ -19,6 +21,7 @@ import java.util.TimeZone;
 @NoArgsConstructor
 @Entity
 @Table(name = "city")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class City {
     @Id
     @Column(name = "city_code")
@@ -35,6 +38,7 @@ public class City {
 
     @Column(name = "airports")
     @OneToMany(targetEntity = Airport.class, mappedBy = "city")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnore
     private Set<Airport> airports;
 
@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Objects;
 import java.util.Set;
@@ -18,10 +20,13 @@ import java.util.Set;
 @NoArgsConstructor
 @Entity
 @Table(name = "country")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Country {
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "country_id")
+    @TableGenerator(name = "country_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id",
+            pkColumnValue = "country", allocationSize = 50)
     private Long id;
 
     @Column(name = "country_code", unique = true)
@@ -33,6 +38,7 @@ public class Country {
     private String name;
 
     @OneToMany(targetEntity = City.class, mappedBy = "country")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnore
     private Set<City> cities;
 
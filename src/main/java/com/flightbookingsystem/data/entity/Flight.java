@@ -14,6 +14,7 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Set;
@@ -23,11 +24,15 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "flight")
+@Table(name = "flight", indexes = {
+        @Index(name = "idx_flight_route_departure_time", columnList = "departure_airport, arrival_airport, departure_time")
+})
 public class Flight {
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "flight_id")
+    @TableGenerator(name = "flight_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id",
+            pkColumnValue = "flight", allocationSize = 100)
     private Long id;
 
     @Column(name = "flight_number")
@@ -52,6 +57,12 @@ public class Flight {
     @NotNull(message = "Arrival time must be set!")
     private LocalDateTime arrivalTime;
 
+    @Column(name = "departure_instant")
+    private Instant departureInstant;
+
+    @Column(name = "arrival_instant")
+    private Instant arrivalInstant;
+
     @OneToMany(targetEntity = Ticket.class, mappedBy = "flight")
     @JsonIgnore
     private Set<Ticket> tickets;
@@ -0,0 +1,68 @@
+package com.flightbookingsystem.data.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Objects;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_pending", columnList = "processed_at, failed_at, next_attempt_at")
+})
+public class OutboxEvent {
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_event_id")
+    @TableGenerator(name = "outbox_event_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id",
+            pkColumnValue = "outbox_event", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "failed_at")
+    private Instant failedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEvent outboxEvent = (OutboxEvent) o;
+        return Objects.equals(id, outboxEvent.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -20,7 +20,9 @@ import java.util.Objects;
 @Table(name = "personal_info")
 public class PersonalInfo {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "personal_info_id")
+    @TableGenerator(name = "personal_info_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id",
+            pkColumnValue = "personal_info", allocationSize = 50)
     private Long id;
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -1,10 +1,13 @@
 package com.flightbookingsystem.data.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 import java.util.Set;
@@ -15,14 +18,18 @@ import java.util.Set;
 @NoArgsConstructor
 @Entity
 @Table(name = "role")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Role implements GrantedAuthority {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "role_id")
+    @TableGenerator(name = "role_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id",
+            pkColumnValue = "role", allocationSize = 50)
     private Long id;
 
     @Column(name = "authority")
     private String authority;
 
-    @ManyToMany(mappedBy = "authorities", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "authorities")
+    @JsonIgnore
     private Set<User> users;
 }
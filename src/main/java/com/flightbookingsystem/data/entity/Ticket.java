@@ -11,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
 import java.util.Objects;
 
 @Getter
@@ -18,7 +19,9 @@ import java.util.Objects;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "ticket")
+@Table(name = "ticket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ticket_flight_seat", columnNames = {"flight_id", "seat"})
+})
 public class Ticket {
     @Id
     @Column(name = "booking_reference")
@@ -49,6 +52,9 @@ public class Ticket {
     @JsonIgnore
     private User user;
 
+    @Column(name = "price")
+    private BigDecimal price;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
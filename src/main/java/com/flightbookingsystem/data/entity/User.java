@@ -3,12 +3,12 @@ package com.flightbookingsystem.data.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
-import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -29,8 +29,6 @@ public class User implements UserDetails {
     private String username;
 
     @Column(name = "password")
-    @Pattern(regexp = "^(?=.[a-z])(?=.[A-Z])(?=.*\\d)[a-zA-Z\\d]{8,}$", message = "The password must contain at least 1 uppercase letter, 1 lowercase letter and 1 digit!")
-    @Size(min = 8, max = 64, message = "The password must contain at least 8 characters!")
     private String password;
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -43,6 +41,7 @@ public class User implements UserDetails {
     private Set<Ticket> tickets;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     protected Set<Role> authorities;
 
     @Override
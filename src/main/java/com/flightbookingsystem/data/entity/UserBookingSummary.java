@@ -0,0 +1,45 @@
+package com.flightbookingsystem.data.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Objects;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "user_booking_summary")
+public class UserBookingSummary {
+    @Id
+    @Column(name = "username")
+    private String username;
+
+    @Lob
+    @Column(name = "trips", nullable = false)
+    private String trips;
+
+    @Column(name = "trip_count", nullable = false)
+    private int tripCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UserBookingSummary userBookingSummary = (UserBookingSummary) o;
+        return Objects.equals(username, userBookingSummary.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(username);
+    }
+}
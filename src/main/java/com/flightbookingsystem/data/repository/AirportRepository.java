@@ -1,6 +1,7 @@
 package com.flightbookingsystem.data.repository;
 
 import com.flightbookingsystem.data.entity.Airport;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -15,4 +16,5 @@ public interface AirportRepository extends JpaRepository<Airport, String> {
     List<Airport> findAllByCityNameAndNameStartingWith(String cityName, String name, Sort sort);
     List<Airport> findAllByNameOrCityNameOrCodeOrCityCodeStartingWith(String cityName, String airportName, String airportCode, String cityCode, Sort sort);
     List<Airport> findAllByNameContainingIgnoreCaseOrCodeContainingIgnoreCaseOrderByNameAsc(String name, String code);
+    List<Airport> findAllByCodeGreaterThan(String code, Pageable pageable);
 }
@@ -2,8 +2,12 @@ package com.flightbookingsystem.data.repository;
 
 import com.flightbookingsystem.data.entity.City;
 import com.flightbookingsystem.data.enums.CountryCode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.TimeZone;
@@ -14,7 +18,11 @@ public interface CityRepository extends JpaRepository<City, String> {
     List<City> findAllByCodeStartingWith(String cityCode);
     List<City> findAllByNameOrCodeStartingWith(String cityName, String cityCode, Sort sort);
     List<City> findAllByCountryName(String countryName);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<City> findAllByCountryCode(CountryCode countryCode);
+
     List<City> findAllByTimeZone(TimeZone timeZone);
     List<City> findAllByNameContainingIgnoreCaseOrCodeContainingIgnoreCaseOrderByNameAsc(String name, String code);
+    List<City> findAllByCodeGreaterThan(String code, Pageable pageable);
 }
@@ -3,16 +3,24 @@ package com.flightbookingsystem.data.repository;
 import com.flightbookingsystem.data.entity.City;
 import com.flightbookingsystem.data.entity.Country;
 import com.flightbookingsystem.data.enums.CountryCode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface CountryRepository extends JpaRepository<Country, Long> {
     List<Country> findAllByName(String countryName);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Country> findAllByCode(CountryCode countryCode);
+
     Country findCountryByCitiesContains(City city);
     List<Country> findAllByCitiesContains(City city);
+    List<Country> findAllByIdGreaterThan(Long id, Pageable pageable);
 
     @Query("SELECT c FROM Country c WHERE LOWER(c.name) LIKE %?1% OR LOWER(c.code) LIKE %?1% ORDER BY c.name ASC")
     List<Country> findAllByNameContainingIgnoreCaseOrCodeContainingIgnoreCaseOrderByNameAsc(String nameOrCode);
@@ -1,14 +1,47 @@
 package com.flightbookingsystem.data.repository;
 
 import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.dto.FlightSummaryDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface FlightRepository extends JpaRepository<Flight, Long> {
     List<Flight> findAllByArrivalAirportName(String name);
     List<Flight> findAllByDepartureAirportName(String cityName);
     List<Flight> findAllByDepartureAirportCodeAndArrivalAirportCode(String departureAirportCode, String ArrivalAirportCode);
+
+    @Query("SELECT f FROM Flight f WHERE f.departureAirport.code = ?1 AND f.arrivalAirport.code = ?2 " +
+            "AND f.departureTime >= ?3 AND f.departureTime < ?4 ORDER BY f.departureTime ASC")
+    List<Flight> findAllByRouteAndDepartureTimeInRange(String departureAirportCode, String arrivalAirportCode, LocalDateTime from, LocalDateTime to);
+
+    @Query("SELECT new com.flightbookingsystem.dto.FlightSummaryDTO(f.id, f.flightNumber, " +
+            "da.code, da.name, dc.name, aa.code, aa.name, ac.name, " +
+            "f.departureTime, f.arrivalTime, f.flightStatus, f.startingPrice, f.duration) " +
+            "FROM Flight f JOIN f.departureAirport da JOIN da.city dc JOIN f.arrivalAirport aa JOIN aa.city ac " +
+            "WHERE f.id > ?1 ORDER BY f.id ASC")
+    List<FlightSummaryDTO> findFlightSummariesAfter(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.flightbookingsystem.dto.FlightSummaryDTO(f.id, f.flightNumber, " +
+            "da.code, da.name, dc.name, aa.code, aa.name, ac.name, " +
+            "f.departureTime, f.arrivalTime, f.flightStatus, f.startingPrice, f.duration) " +
+            "FROM Flight f JOIN f.departureAirport da JOIN da.city dc JOIN f.arrivalAirport aa JOIN aa.city ac " +
+            "ORDER BY f.id ASC")
+    Stream<FlightSummaryDTO> streamAllFlightSummaries();
+
+    @Query("SELECT f.flightStatus FROM Flight f WHERE f.id = ?1")
+    Optional<FlightStatus> findFlightStatusById(Long id);
+
+    List<Flight> findAllByDepartureInstantIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package com.flightbookingsystem.data.repository;
+
+import com.flightbookingsystem.data.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.failedAt IS NULL AND e.attempts < ?1 " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= ?2) ORDER BY e.id ASC")
+    List<OutboxEvent> findDueForUpdate(int maxAttempts, Instant now, Pageable pageable);
+}
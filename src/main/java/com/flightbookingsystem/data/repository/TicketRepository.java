@@ -2,9 +2,17 @@ package com.flightbookingsystem.data.repository;
 
 import com.flightbookingsystem.data.entity.Ticket;
 import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.dto.TicketSummaryDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TicketRepository extends JpaRepository<Ticket, String> {
     Ticket findByFlightFlightNumber(String flightNumber);
@@ -14,4 +22,35 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
     List<Ticket> findAllByFlightFlightStatus(FlightStatus flightStatus);
     List<Ticket> findAllByFlightFlightStatusAndUserUsername(FlightStatus flightStatus, String username);
     List<Ticket> findAllByFlightFlightStatusAndFlightFlightNumber(FlightStatus flightStatus, String flightNumber);
+
+    @Query("SELECT t.flight.id, t.seat FROM Ticket t WHERE t.seat IS NOT NULL")
+    List<Object[]> findAllBookedSeats();
+
+    @Query("SELECT DISTINCT t.flight.id FROM Ticket t WHERE t.user.username = ?1")
+    List<Long> findBookedFlightIdsByUsername(String username);
+
+    @Query("SELECT DISTINCT t.user.username FROM Ticket t WHERE t.flight.id = ?1")
+    List<String> findUsernamesByFlightId(Long flightId);
+
+    @Query("SELECT t.user.username, t.bookingReference, t.seat, t.travelClass, t.luggageType, " +
+            "f.id, f.flightNumber, f.departureAirport.code, f.arrivalAirport.code, " +
+            "f.departureTime, f.arrivalTime, f.departureInstant, f.arrivalInstant, f.flightStatus " +
+            "FROM Ticket t JOIN t.flight f " +
+            "WHERE t.user.username IN ?1")
+    List<Object[]> findTripsByUsernames(Collection<String> usernames);
+
+    @Query("SELECT new com.flightbookingsystem.dto.TicketSummaryDTO(t.bookingReference, t.seat, t.travelClass, t.luggageType, " +
+            "t.user.username, f.id, f.flightNumber, f.departureAirport.code, f.arrivalAirport.code, " +
+            "f.departureTime, f.arrivalTime, f.flightStatus) " +
+            "FROM Ticket t JOIN t.flight f " +
+            "WHERE t.bookingReference > ?1 ORDER BY t.bookingReference ASC")
+    List<TicketSummaryDTO> findTicketSummariesAfter(String bookingReference, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.flightbookingsystem.dto.TicketSummaryDTO(t.bookingReference, t.seat, t.travelClass, t.luggageType, " +
+            "t.user.username, f.id, f.flightNumber, f.departureAirport.code, f.arrivalAirport.code, " +
+            "f.departureTime, f.arrivalTime, f.flightStatus) " +
+            "FROM Ticket t JOIN t.flight f " +
+            "ORDER BY t.bookingReference ASC")
+    Stream<TicketSummaryDTO> streamAllTicketSummaries();
 }
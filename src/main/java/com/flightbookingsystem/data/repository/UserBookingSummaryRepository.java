@@ -0,0 +1,14 @@
+package com.flightbookingsystem.data.repository;
+
+import com.flightbookingsystem.data.entity.UserBookingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UserBookingSummaryRepository extends JpaRepository<UserBookingSummary, String> {
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserBookingSummary s WHERE s.username NOT IN (SELECT u.username FROM User u)")
+    int deleteOrphans();
+}
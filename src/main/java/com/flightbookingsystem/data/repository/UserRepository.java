@@ -1,6 +1,7 @@
 package com.flightbookingsystem.data.repository;
 
 import com.flightbookingsystem.data.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -12,6 +13,10 @@ public interface UserRepository extends JpaRepository<User, String> {
     List<User> findAllByPersonalInfoFirstName(String firstName);
     List<User> findAllByPersonalInfoLastName(String lastName);
     User findByPersonalInfoPhoneNumber(String phoneNumber);
+    List<User> findAllByUsernameGreaterThan(String username, Pageable pageable);
+
+    @Query("SELECT u.username FROM User u WHERE u.username > ?1 ORDER BY u.username ASC")
+    List<String> findUsernamesAfter(String username, Pageable pageable);
 
     @Query("SELECT u FROM User u JOIN u.tickets ticket WHERE ticket.bookingReference = ?1")
     User findByTicketBookingReference(String bookingReference);
@@ -0,0 +1,30 @@
+package com.flightbookingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BatchItemResultDTO {
+    public enum Status {
+        CREATED,
+        INVALID,
+        CONFLICT,
+        FAILED,
+        NOT_WRITTEN
+    }
+
+    private int index;
+
+    private Status status;
+
+    private String id;
+
+    private String error;
+}
@@ -0,0 +1,45 @@
+package com.flightbookingsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class BatchResultDTO {
+    public static final int MAX_ITEMS = 500;
+
+    private boolean committed;
+
+    private List<BatchItemResultDTO> items = new ArrayList<>();
+
+    public static BatchResultDTO of(int size) {
+        BatchResultDTO result = new BatchResultDTO();
+        for (int index = 0; index < size; index++) {
+            result.items.add(new BatchItemResultDTO(index, BatchItemResultDTO.Status.NOT_WRITTEN, null, null));
+        }
+        return result;
+    }
+
+    public void reject(int index, BatchItemResultDTO.Status status, String error) {
+        BatchItemResultDTO item = items.get(index);
+        item.setStatus(status);
+        item.setError(error);
+    }
+
+    public void created(int index, String id) {
+        items.get(index).setStatus(BatchItemResultDTO.Status.CREATED);
+        items.get(index).setId(id);
+    }
+
+    public boolean hasRejections() {
+        return items.stream().anyMatch(item -> item.getStatus() == BatchItemResultDTO.Status.INVALID
+                || item.getStatus() == BatchItemResultDTO.Status.CONFLICT);
+    }
+}
@@ -0,0 +1,27 @@
+package com.flightbookingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BookingSummaryDTO {
+    private String username;
+
+    private List<TripDTO> upcoming;
+
+    private List<TripDTO> past;
+
+    private List<TripDTO> cancelled;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,37 @@
+package com.flightbookingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CursorPageDTO<T> {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private List<T> items;
+
+    private String nextCursor;
+
+    public static int limit(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    public static <E, T> CursorPageDTO<T> of(List<E> rows, int size, Function<E, ?> cursor, Function<E, T> converter) {
+        List<T> items = rows.stream()
+                .map(converter)
+                .collect(Collectors.toList());
+        String nextCursor = rows.size() < size ? null : String.valueOf(cursor.apply(rows.get(rows.size() - 1)));
+        return new CursorPageDTO<>(items, nextCursor);
+    }
+}
@@ -4,6 +4,7 @@ import com.flightbookingsystem.config.DurationConverter;
 import com.flightbookingsystem.data.entity.Airport;
 import com.flightbookingsystem.data.entity.Ticket;
 import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.data.enums.TravelClass;
 import jakarta.persistence.Convert;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -18,6 +19,7 @@ import lombok.ToString;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
 
 @Getter
@@ -53,4 +55,6 @@ public class FlightDTO {
     @Convert(converter = DurationConverter.class)
     @NotNull(message = "Duration must be set!")
     private Duration duration;
+
+    private Map<TravelClass, BigDecimal> fares;
 }
@@ -0,0 +1,18 @@
+package com.flightbookingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class FlightImportErrorDTO {
+    private long line;
+
+    private String message;
+}
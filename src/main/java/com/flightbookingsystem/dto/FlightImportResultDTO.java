@@ -0,0 +1,34 @@
+package com.flightbookingsystem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class FlightImportResultDTO {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long imported;
+
+    private long failed;
+
+    private List<FlightImportErrorDTO> errors = new ArrayList<>();
+
+    private boolean errorsTruncated;
+
+    public void reject(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new FlightImportErrorDTO(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.flightbookingsystem.dto;
+
+import com.flightbookingsystem.data.enums.FlightStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class FlightStatusEventDTO {
+    private long sequence;
+
+    private Long flightId;
+
+    private String flightNumber;
+
+    private FlightStatus previousStatus;
+
+    private FlightStatus status;
+
+    private Instant changedAt;
+}
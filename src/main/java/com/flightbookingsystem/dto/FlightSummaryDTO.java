@@ -0,0 +1,45 @@
+package com.flightbookingsystem.dto;
+
+import com.flightbookingsystem.data.enums.FlightStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class FlightSummaryDTO {
+    private Long id;
+
+    private String flightNumber;
+
+    private String departureAirportCode;
+
+    private String departureAirportName;
+
+    private String departureCityName;
+
+    private String arrivalAirportCode;
+
+    private String arrivalAirportName;
+
+    private String arrivalCityName;
+
+    private LocalDateTime departureTime;
+
+    private LocalDateTime arrivalTime;
+
+    private FlightStatus flightStatus;
+
+    private BigDecimal startingPrice;
+
+    private Duration duration;
+}
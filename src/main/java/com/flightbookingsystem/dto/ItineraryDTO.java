@@ -0,0 +1,26 @@
+package com.flightbookingsystem.dto;
+
+import com.flightbookingsystem.data.enums.TravelClass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class ItineraryDTO {
+    private List<FlightDTO> flights;
+
+    private int stops;
+
+    private Duration totalDuration;
+
+    private Map<TravelClass, BigDecimal> totalFares;
+}
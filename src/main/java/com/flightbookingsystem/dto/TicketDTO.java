@@ -11,6 +11,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.math.BigDecimal;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,4 +35,6 @@ public class TicketDTO {
 
     @NotNull(message = "User must be set!")
     private User user;
+
+    private BigDecimal price;
 }
@@ -0,0 +1,43 @@
+package com.flightbookingsystem.dto;
+
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TicketSummaryDTO {
+    private String bookingReference;
+
+    private String seat;
+
+    private TravelClass travelClass;
+
+    private LuggageType luggageType;
+
+    private String username;
+
+    private Long flightId;
+
+    private String flightNumber;
+
+    private String departureAirportCode;
+
+    private String arrivalAirportCode;
+
+    private LocalDateTime departureTime;
+
+    private LocalDateTime arrivalTime;
+
+    private FlightStatus flightStatus;
+}
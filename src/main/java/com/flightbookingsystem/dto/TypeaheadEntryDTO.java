@@ -0,0 +1,20 @@
+package com.flightbookingsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TypeaheadEntryDTO {
+    private String id;
+
+    private String code;
+
+    private String name;
+}
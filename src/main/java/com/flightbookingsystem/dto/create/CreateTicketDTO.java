@@ -5,7 +5,6 @@ import com.flightbookingsystem.data.enums.LuggageType;
 import com.flightbookingsystem.data.enums.TravelClass;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
@@ -18,7 +17,6 @@ import lombok.ToString;
 @NoArgsConstructor
 @ToString
 public class CreateTicketDTO{
-    @NotBlank(message = "Booking reference cannot be blank!")
     private String bookingReference;
 
     @NotNull(message = "Flight must be set!")
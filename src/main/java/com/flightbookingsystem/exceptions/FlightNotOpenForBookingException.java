@@ -0,0 +1,11 @@
+package com.flightbookingsystem.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class FlightNotOpenForBookingException extends RuntimeException {
+    public FlightNotOpenForBookingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.flightbookingsystem.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class SeatAlreadyTakenException extends RuntimeException {
+    public SeatAlreadyTakenException(String message) {
+        super(message);
+    }
+}
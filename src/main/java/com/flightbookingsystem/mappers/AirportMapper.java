@@ -0,0 +1,25 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.dto.AirportDTO;
+import com.flightbookingsystem.dto.create.CreateAirportDTO;
+import com.flightbookingsystem.dto.update.UpdateAirportDTO;
+import com.flightbookingsystem.web.view.model.CreateAirportViewModel;
+import com.flightbookingsystem.web.view.model.UpdateAirportViewModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class)
+public interface AirportMapper {
+    @Mapping(target = "departureFlights", ignore = true)
+    @Mapping(target = "arrivalFlights", ignore = true)
+    AirportDTO toAirportDTO(Airport airport);
+
+    Airport toAirport(CreateAirportDTO createAirportDTO);
+
+    Airport toAirport(UpdateAirportDTO updateAirportDTO);
+
+    CreateAirportDTO toCreateAirportDTO(CreateAirportViewModel createAirportViewModel);
+
+    UpdateAirportDTO toUpdateAirportDTO(UpdateAirportViewModel updateAirportViewModel);
+}
@@ -0,0 +1,24 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.dto.CityDTO;
+import com.flightbookingsystem.dto.create.CreateCityDTO;
+import com.flightbookingsystem.dto.update.UpdateCityDTO;
+import com.flightbookingsystem.web.view.model.CreateCityViewModel;
+import com.flightbookingsystem.web.view.model.UpdateCityViewModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class)
+public interface CityMapper {
+    @Mapping(target = "airports", ignore = true)
+    CityDTO toCityDTO(City city);
+
+    City toCity(CreateCityDTO createCityDTO);
+
+    City toCity(UpdateCityDTO updateCityDTO);
+
+    CreateCityDTO toCreateCityDTO(CreateCityViewModel createCityViewModel);
+
+    UpdateCityDTO toUpdateCityDTO(UpdateCityViewModel updateCityViewModel);
+}
@@ -0,0 +1,24 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.Country;
+import com.flightbookingsystem.dto.CountryDTO;
+import com.flightbookingsystem.dto.create.CreateCountryDTO;
+import com.flightbookingsystem.dto.update.UpdateCountryDTO;
+import com.flightbookingsystem.web.view.model.CreateCountryViewModel;
+import com.flightbookingsystem.web.view.model.UpdateCountryViewModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class)
+public interface CountryMapper {
+    @Mapping(target = "cities", ignore = true)
+    CountryDTO toCountryDTO(Country country);
+
+    Country toCountry(CreateCountryDTO createCountryDTO);
+
+    Country toCountry(UpdateCountryDTO updateCountryDTO);
+
+    CreateCountryDTO toCreateCountryDTO(CreateCountryViewModel createCountryViewModel);
+
+    UpdateCountryDTO toUpdateCountryDTO(UpdateCountryViewModel updateCountryViewModel);
+}
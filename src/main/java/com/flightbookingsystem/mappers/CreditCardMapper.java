@@ -0,0 +1,22 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.CreditCard;
+import com.flightbookingsystem.dto.CreditCardDTO;
+import com.flightbookingsystem.dto.create.CreateCreditCardDTO;
+import com.flightbookingsystem.dto.update.UpdateCreditCardDTO;
+import com.flightbookingsystem.web.view.model.CreateCreditCardViewModel;
+import com.flightbookingsystem.web.view.model.UpdateCreditCardViewModel;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface CreditCardMapper {
+    CreditCardDTO toCreditCardDTO(CreditCard creditCard);
+
+    CreditCard toCreditCard(CreateCreditCardDTO createCreditCardDTO);
+
+    CreditCard toCreditCard(UpdateCreditCardDTO updateCreditCardDTO);
+
+    CreateCreditCardDTO toCreateCreditCardDTO(CreateCreditCardViewModel createCreditCardViewModel);
+
+    UpdateCreditCardDTO toUpdateCreditCardDTO(UpdateCreditCardViewModel updateCreditCardViewModel);
+}
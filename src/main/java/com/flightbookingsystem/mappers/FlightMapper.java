@@ -0,0 +1,24 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.dto.FlightDTO;
+import com.flightbookingsystem.dto.create.CreateFlightDTO;
+import com.flightbookingsystem.dto.update.UpdateFlightDTO;
+import com.flightbookingsystem.web.view.model.CreateFlightViewModel;
+import com.flightbookingsystem.web.view.model.UpdateFlightViewModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class)
+public interface FlightMapper {
+    @Mapping(target = "tickets", ignore = true)
+    FlightDTO toFlightDTO(Flight flight);
+
+    Flight toFlight(CreateFlightDTO createFlightDTO);
+
+    Flight toFlight(UpdateFlightDTO updateFlightDTO);
+
+    CreateFlightDTO toCreateFlightDTO(CreateFlightViewModel createFlightViewModel);
+
+    UpdateFlightDTO toUpdateFlightDTO(UpdateFlightViewModel updateFlightViewModel);
+}
@@ -0,0 +1,22 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.IdentificationDocument;
+import com.flightbookingsystem.dto.IdentificationDocumentDTO;
+import com.flightbookingsystem.dto.create.CreateIdentificationDocumentDTO;
+import com.flightbookingsystem.dto.update.UpdateIdentificationDocumentDTO;
+import com.flightbookingsystem.web.view.model.CreateIdentificationDocumentViewModel;
+import com.flightbookingsystem.web.view.model.UpdateIdentificationDocumentViewModel;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface IdentificationDocumentMapper {
+    IdentificationDocumentDTO toIdentificationDocumentDTO(IdentificationDocument identificationDocument);
+
+    IdentificationDocument toIdentificationDocument(CreateIdentificationDocumentDTO createIdentificationDocumentDTO);
+
+    IdentificationDocument toIdentificationDocument(UpdateIdentificationDocumentDTO updateIdentificationDocumentDTO);
+
+    CreateIdentificationDocumentDTO toCreateIdentificationDocumentDTO(CreateIdentificationDocumentViewModel createIdentificationDocumentViewModel);
+
+    UpdateIdentificationDocumentDTO toUpdateIdentificationDocumentDTO(UpdateIdentificationDocumentViewModel updateIdentificationDocumentViewModel);
+}
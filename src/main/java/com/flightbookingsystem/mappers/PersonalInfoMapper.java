@@ -0,0 +1,22 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.PersonalInfo;
+import com.flightbookingsystem.dto.PersonalInfoDTO;
+import com.flightbookingsystem.dto.create.CreatePersonalInfoDTO;
+import com.flightbookingsystem.dto.update.UpdatePersonalInfoDTO;
+import com.flightbookingsystem.web.view.model.CreatePersonalInfoViewModel;
+import com.flightbookingsystem.web.view.model.UpdatePersonalInfoViewModel;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface PersonalInfoMapper {
+    PersonalInfoDTO toPersonalInfoDTO(PersonalInfo personalInfo);
+
+    PersonalInfo toPersonalInfo(CreatePersonalInfoDTO createPersonalInfoDTO);
+
+    PersonalInfo toPersonalInfo(UpdatePersonalInfoDTO updatePersonalInfoDTO);
+
+    CreatePersonalInfoDTO toCreatePersonalInfoDTO(CreatePersonalInfoViewModel createPersonalInfoViewModel);
+
+    UpdatePersonalInfoDTO toUpdatePersonalInfoDTO(UpdatePersonalInfoViewModel updatePersonalInfoViewModel);
+}
@@ -0,0 +1,20 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.dto.TicketDTO;
+import com.flightbookingsystem.dto.create.CreateTicketDTO;
+import com.flightbookingsystem.dto.update.UpdateTicketDTO;
+import com.flightbookingsystem.web.view.model.CreateTicketViewModel;
+import com.flightbookingsystem.web.view.model.UpdateTicketViewModel;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface TicketMapper {
+    TicketDTO toTicketDTO(Ticket ticket);
+
+    Ticket toTicket(CreateTicketDTO createTicketDTO);
+
+    CreateTicketDTO toCreateTicketDTO(CreateTicketViewModel createTicketViewModel);
+
+    UpdateTicketDTO toUpdateTicketDTO(UpdateTicketViewModel updateTicketViewModel);
+}
@@ -0,0 +1,37 @@
+package com.flightbookingsystem.mappers;
+
+import com.flightbookingsystem.data.entity.Role;
+import com.flightbookingsystem.data.entity.User;
+import com.flightbookingsystem.dto.UserDTO;
+import com.flightbookingsystem.dto.create.CreateUserDTO;
+import com.flightbookingsystem.dto.update.UpdateUserDTO;
+import com.flightbookingsystem.web.view.model.UpdateUserViewModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Mapper(config = MappingConfig.class)
+public interface UserMapper {
+    @Mapping(target = "authorities", expression = "java(toRoles(user.getAuthorities()))")
+    UserDTO toUserDTO(User user);
+
+    User toUser(CreateUserDTO createUserDTO);
+
+    User toUser(UpdateUserDTO updateUserDTO);
+
+    UpdateUserDTO toUpdateUserDTO(UpdateUserViewModel updateUserViewModel);
+
+    default Set<Role> toRoles(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null) {
+            return null;
+        }
+        return authorities.stream()
+                .filter(Role.class::isInstance)
+                .map(Role.class::cast)
+                .collect(Collectors.toSet());
+    }
+}
@@ -2,6 +2,7 @@ package com.flightbookingsystem.services;
 
 import com.flightbookingsystem.data.entity.Airport;
 import com.flightbookingsystem.dto.AirportDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.create.CreateAirportDTO;
 import com.flightbookingsystem.dto.update.UpdateAirportDTO;
 import jakarta.validation.Valid;
@@ -10,7 +11,7 @@ import java.util.List;
 
 
 public interface AirportService {
-    List<AirportDTO> getAirports();
+    CursorPageDTO<AirportDTO> getAirports(String after, int size);
 
     AirportDTO getAirport(String code);
 
@@ -0,0 +1,11 @@
+package com.flightbookingsystem.services;
+
+import com.flightbookingsystem.dto.BookingSummaryDTO;
+
+public interface BookingSummaryService {
+    BookingSummaryDTO getBookingSummary(String username);
+
+    long rebuild();
+
+    void rebuild(String username);
+}
@@ -3,6 +3,7 @@ package com.flightbookingsystem.services;
 import com.flightbookingsystem.data.entity.City;
 import com.flightbookingsystem.data.enums.CountryCode;
 import com.flightbookingsystem.dto.CityDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.create.CreateCityDTO;
 import com.flightbookingsystem.dto.update.UpdateCityDTO;
 import jakarta.validation.Valid;
@@ -11,7 +12,7 @@ import java.util.List;
 import java.util.TimeZone;
 
 public interface CityService {
-    List<CityDTO> getCities();
+    CursorPageDTO<CityDTO> getCities(String after, int size);
 
     CityDTO getCity(String code);
 
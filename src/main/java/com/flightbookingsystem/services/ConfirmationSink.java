@@ -0,0 +1,8 @@
+package com.flightbookingsystem.services;
+
+import java.io.IOException;
+import java.util.Map;
+
+public interface ConfirmationSink {
+    void deliver(String bookingReference, Map<String, Object> confirmation) throws IOException;
+}
@@ -0,0 +1,10 @@
+package com.flightbookingsystem.services;
+
+import com.flightbookingsystem.dto.ItineraryDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ConnectionSearchService {
+    List<ItineraryDTO> searchConnections(String departureAirportCode, String arrivalAirportCode, LocalDate date);
+}
@@ -4,6 +4,7 @@ import com.flightbookingsystem.data.entity.City;
 import com.flightbookingsystem.data.entity.Country;
 import com.flightbookingsystem.data.enums.CountryCode;
 import com.flightbookingsystem.dto.CountryDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.create.CreateCountryDTO;
 import com.flightbookingsystem.dto.update.UpdateCountryDTO;
 import jakarta.validation.Valid;
@@ -12,7 +13,7 @@ import jakarta.validation.constraints.Min;
 import java.util.List;
 
 public interface CountryService {
-    List<CountryDTO> getCountries();
+    CursorPageDTO<CountryDTO> getCountries(Long after, int size);
 
     CountryDTO getCountry(Long id);
 
@@ -0,0 +1,11 @@
+package com.flightbookingsystem.services;
+
+import com.flightbookingsystem.dto.FlightImportResultDTO;
+
+import java.io.InputStream;
+
+public interface FlightImportService {
+    FlightImportResultDTO importCsv(InputStream input);
+
+    FlightImportResultDTO importNdjson(InputStream input);
+}
@@ -1,7 +1,10 @@
 package com.flightbookingsystem.services;
 
 import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.dto.BatchResultDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.FlightDTO;
+import com.flightbookingsystem.dto.FlightSummaryDTO;
 import com.flightbookingsystem.dto.create.CreateFlightDTO;
 import com.flightbookingsystem.dto.update.UpdateFlightDTO;
 import jakarta.validation.Valid;
@@ -10,14 +13,19 @@ import jakarta.validation.constraints.Min;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FlightService {
-    List<FlightDTO> getFlights();
+    CursorPageDTO<FlightSummaryDTO> getFlights(Long after, int size);
+
+    void exportFlights(Consumer<FlightSummaryDTO> consumer);
 
     FlightDTO getFlight(@Min(1) Long id);
 
     Flight create(@Valid CreateFlightDTO createFlightDTO);
 
+    BatchResultDTO createFlights(List<CreateFlightDTO> createFlightDTOs);
+
     Flight updateFlight(@Min(1) Long id, @Valid UpdateFlightDTO updateFlightDTO);
 
     void deleteFlight(Long id);
@@ -0,0 +1,26 @@
+package com.flightbookingsystem.services;
+
+import com.flightbookingsystem.dto.FlightStatusEventDTO;
+
+import java.io.IOException;
+import java.util.Set;
+
+public interface FlightStatusService {
+    interface Listener {
+        void onEvent(FlightStatusEventDTO event) throws IOException;
+
+        void onHeartbeat() throws IOException;
+
+        void onClose();
+    }
+
+    interface Subscription {
+        void cancel();
+    }
+
+    /**
+     * Subscribes to transitions of the given flights and flight numbers. With a {@code lastEventId}, events after it
+     * that are still buffered are delivered first, followed by live events, each exactly once and in order.
+     */
+    Subscription subscribe(Set<Long> flightIds, Set<String> flightNumbers, Long lastEventId, Listener listener);
+}
@@ -0,0 +1,13 @@
+package com.flightbookingsystem.services;
+
+import com.flightbookingsystem.dto.TypeaheadEntryDTO;
+
+import java.util.List;
+
+public interface SearchService {
+    List<TypeaheadEntryDTO> searchAirports(String nameOrCode);
+
+    List<TypeaheadEntryDTO> searchCities(String nameOrCode);
+
+    List<TypeaheadEntryDTO> searchCountries(String nameOrCode);
+}
@@ -1,19 +1,28 @@
 package com.flightbookingsystem.services;
 
 import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.dto.BatchResultDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.TicketDTO;
+import com.flightbookingsystem.dto.TicketSummaryDTO;
 import com.flightbookingsystem.dto.create.CreateTicketDTO;
 import com.flightbookingsystem.dto.update.UpdateTicketDTO;
 import jakarta.validation.Valid;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TicketService {
-    List<TicketDTO> getTickets();
+    CursorPageDTO<TicketSummaryDTO> getTickets(String after, int size);
+
+    void exportTickets(Consumer<TicketSummaryDTO> consumer);
 
     TicketDTO getTicket(String bookingReference);
 
-    Ticket create(@Valid CreateTicketDTO createTicketDTO);
+    Ticket create(@Valid CreateTicketDTO createTicketDTO, String username);
+
+    BatchResultDTO createTickets(List<CreateTicketDTO> createTicketDTOs, String username);
 
     Ticket updateTicket(String bookingReference, @Valid UpdateTicketDTO updateTicketDTO);
 
@@ -32,4 +41,6 @@ public interface TicketService {
     List<TicketDTO> getTicketsByFlightStatusAndUsername(String flightStatus, String username);
 
     List<TicketDTO> getTicketsByFlightStatusAndFlightNumber(String flightStatus, String flightNumber);
+
+    Set<Long> getBookedFlightIds(String username);
 }
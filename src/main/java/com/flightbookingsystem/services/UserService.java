@@ -1,16 +1,18 @@
 package com.flightbookingsystem.services;
 
 import com.flightbookingsystem.data.entity.User;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.UserDTO;
 import com.flightbookingsystem.dto.create.CreateUserDTO;
 import com.flightbookingsystem.dto.update.UpdateUserDTO;
 import jakarta.validation.Valid;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.List;
 
-public interface UserService extends UserDetailsService {
-    List<UserDTO> getUsers();
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
+    CursorPageDTO<UserDTO> getUsers(String after, int size);
     UserDTO getUser(String username);
     User create(@Valid CreateUserDTO userDTO);
     User updateUser(String username, @Valid UpdateUserDTO userDTO);
@@ -1,15 +1,20 @@
 package com.flightbookingsystem.services.implementations;
 
+import com.flightbookingsystem.config.CacheConfig;
 import com.flightbookingsystem.data.entity.Airport;
 import com.flightbookingsystem.data.repository.AirportRepository;
 import com.flightbookingsystem.dto.AirportDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.create.CreateAirportDTO;
 import com.flightbookingsystem.dto.update.UpdateAirportDTO;
 import com.flightbookingsystem.exceptions.AirportNotFoundException;
+import com.flightbookingsystem.mappers.AirportMapper;
 import com.flightbookingsystem.services.AirportService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -23,39 +28,53 @@ import java.util.stream.Collectors;
 @Validated
 public class AirportServiceImpl implements AirportService {
     private final AirportRepository airportRepository;
-    private final ModelMapper modelMapper;
+    private final AirportMapper airportMapper;
+    private final TypeaheadIndex typeaheadIndex;
+    private final FlightTimes flightTimes;
+
     private AirportDTO convertToAirportDTO(Airport airport) {
-        return modelMapper.map(airport, AirportDTO.class);
+        return airportMapper.toAirportDTO(airport);
     }
 
     @Override
-    public List<AirportDTO> getAirports() {
-        return airportRepository.findAll().stream()
-                .map(this::convertToAirportDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<AirportDTO> getAirports(String after, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<Airport> airportPage = airportRepository.findAllByCodeGreaterThan(after == null ? "" : after, PageRequest.of(0, limit, Sort.by("code")));
+        return CursorPageDTO.of(airportPage, limit, Airport::getCode, this::convertToAirportDTO);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.AIRPORTS, key = "#code")
     public AirportDTO getAirport(String code) {
-        return modelMapper.map(airportRepository.findById(code)
-                .orElseThrow(() -> new AirportNotFoundException("Airport with code " + code + " not found")), AirportDTO.class);
+        return airportMapper.toAirportDTO(airportRepository.findById(code)
+                .orElseThrow(() -> new AirportNotFoundException("Airport with code " + code + " not found")));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.AIRPORTS, key = "#result.code")
     public Airport create(@Valid CreateAirportDTO createAirportDTO) {
-        return airportRepository.save(modelMapper.map(createAirportDTO, Airport.class));
+        Airport airport = airportRepository.save(airportMapper.toAirport(createAirportDTO));
+        typeaheadIndex.putAirport(airport);
+        return airport;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.AIRPORTS, key = "#code")
     public Airport updateAirport(String code, @Valid UpdateAirportDTO updateAirportDTO) {
-        Airport airport = modelMapper.map(updateAirportDTO, Airport.class);
+        Airport airport = airportMapper.toAirport(updateAirportDTO);
         airport.setCode(code);
-        return airportRepository.save(airport);
+        Airport updatedAirport = airportRepository.save(airport);
+        typeaheadIndex.putAirport(updatedAirport);
+        flightTimes.evictAirport(code);
+        return updatedAirport;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.AIRPORTS, key = "#code")
     public void deleteAirport(String code) {
         airportRepository.deleteById(code);
+        typeaheadIndex.removeAirport(code);
+        flightTimes.evictAirport(code);
     }
 
     @Override
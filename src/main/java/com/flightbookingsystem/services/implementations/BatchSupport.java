@@ -0,0 +1,58 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.dto.BatchItemResultDTO;
+import com.flightbookingsystem.dto.BatchResultDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Steps shared by the batch create endpoints: validating each item on its own, and reporting a rolled-back write on
+ * the items instead of failing the whole request.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchSupport {
+    private final Validator validator;
+
+    /**
+     * The item's constraint violation messages joined in a stable order, or {@code null} when it is valid.
+     */
+    public String violations(Object dto) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        return violations.isEmpty() ? null : violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Marks every item of a batch whose write was rolled back. A database constraint violation means the batch
+     * conflicts with rows written since it was checked; any other failure is reported as retryable.
+     */
+    public void writeFailed(BatchResultDTO result, RuntimeException e) {
+        boolean conflict = isConstraintViolation(e);
+        BatchItemResultDTO.Status status = conflict ? BatchItemResultDTO.Status.CONFLICT : BatchItemResultDTO.Status.FAILED;
+        String error = conflict
+                ? "The batch conflicts with data written since it was checked"
+                : "The batch could not be written, please retry";
+        for (int index = 0; index < result.getItems().size(); index++) {
+            result.reject(index, status, error);
+        }
+    }
+
+    private static boolean isConstraintViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException || cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
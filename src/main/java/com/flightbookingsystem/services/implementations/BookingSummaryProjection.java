@@ -0,0 +1,226 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flightbookingsystem.data.entity.UserBookingSummary;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import com.flightbookingsystem.data.repository.TicketRepository;
+import com.flightbookingsystem.data.repository.UserBookingSummaryRepository;
+import com.flightbookingsystem.data.repository.UserRepository;
+import com.flightbookingsystem.dto.TripDTO;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@code user_booking_summary}: one row per user holding all of their trips with the flight data
+ * denormalized, so a dashboard is a single primary-key read instead of a ticket scan. A user's row is recomputed
+ * after the ticket or flight change commits, under a per-user lock, so the last refresh always sees every committed
+ * change. A failed refresh only leaves a stale row behind; {@link #rebuild()} repairs all of them.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingSummaryProjection {
+    private static final Logger log = LoggerFactory.getLogger(BookingSummaryProjection.class);
+    private static final TypeReference<List<TripDTO>> TRIPS_TYPE = new TypeReference<>() {
+    };
+    private static final Comparator<TripDTO> BY_DEPARTURE = Comparator
+            .comparing(TripDTO::getDepartureInstant, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TripDTO::getBookingReference);
+    private static final int BATCH_SIZE = 200;
+    private static final int LOCK_STRIPES = 64;
+
+    private final TicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final UserBookingSummaryRepository userBookingSummaryRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock[] locks = newLocks();
+
+    public void ticketsChanged(Collection<String> usernames) {
+        SortedSet<String> affected = usernames.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!affected.isEmpty()) {
+            afterCommit(() -> refresh(affected));
+        }
+    }
+
+    public void flightChanged(Long flightId) {
+        afterCommit(() -> refresh(ticketRepository.findUsernamesByFlightId(flightId)));
+    }
+
+    public void userDeleted(String username) {
+        afterCommit(() -> withLocks(List.of(username), () -> inNewTransaction(status -> {
+            userBookingSummaryRepository.deleteById(username);
+            return null;
+        })));
+    }
+
+    public UserBookingSummary refresh(String username) {
+        return refresh(List.of(username)).get(0);
+    }
+
+    public long rebuild() {
+        long rebuilt = 0;
+        String after = "";
+        List<String> usernames;
+        while (!(usernames = userRepository.findUsernamesAfter(after, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            rebuilt += refresh(usernames).size();
+            after = usernames.get(usernames.size() - 1);
+        }
+        int removed = userBookingSummaryRepository.deleteOrphans();
+        log.info("Rebuilt {} booking summaries, removed {} orphaned", rebuilt, removed);
+        return rebuilt;
+    }
+
+    public List<TripDTO> trips(UserBookingSummary summary) {
+        try {
+            return objectMapper.readValue(summary.getTrips(), TRIPS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable booking summary for " + summary.getUsername(), e);
+        }
+    }
+
+    private List<UserBookingSummary> refresh(Collection<String> usernames) {
+        List<String> sorted = new ArrayList<>(new TreeSet<>(usernames));
+        List<UserBookingSummary> refreshed = new ArrayList<>(sorted.size());
+        for (int from = 0; from < sorted.size(); from += BATCH_SIZE) {
+            List<String> batch = sorted.subList(from, Math.min(from + BATCH_SIZE, sorted.size()));
+            refreshed.addAll(withLocks(batch, () -> inNewTransaction(status -> refreshBatch(batch))));
+        }
+        return refreshed;
+    }
+
+    private List<UserBookingSummary> refreshBatch(List<String> usernames) {
+        Map<String, List<TripDTO>> tripsByUser = new HashMap<>();
+        for (Object[] row : ticketRepository.findTripsByUsernames(usernames)) {
+            tripsByUser.computeIfAbsent((String) row[0], username -> new ArrayList<>()).add(toTrip(row));
+        }
+        Map<String, UserBookingSummary> existing = userBookingSummaryRepository.findAllById(usernames).stream()
+                .collect(Collectors.toMap(UserBookingSummary::getUsername, Function.identity()));
+
+        Instant now = Instant.now();
+        List<UserBookingSummary> summaries = new ArrayList<>(usernames.size());
+        for (String username : usernames) {
+            List<TripDTO> trips = tripsByUser.getOrDefault(username, new ArrayList<>());
+            trips.sort(BY_DEPARTURE);
+
+            UserBookingSummary summary = existing.get(username);
+            boolean isNew = summary == null;
+            if (isNew) {
+                summary = new UserBookingSummary();
+                summary.setUsername(username);
+            }
+            summary.setTrips(write(trips));
+            summary.setTripCount(trips.size());
+            summary.setUpdatedAt(now);
+            if (isNew) {
+                entityManager.persist(summary);
+            }
+            summaries.add(summary);
+        }
+        entityManager.flush();
+        summaries.forEach(entityManager::detach);
+        return summaries;
+    }
+
+    private TripDTO toTrip(Object[] row) {
+        return new TripDTO((String) row[1], (String) row[2], (TravelClass) row[3], (LuggageType) row[4],
+                (Long) row[5], (String) row[6], (String) row[7], (String) row[8],
+                (LocalDateTime) row[9], (LocalDateTime) row[10], (Instant) row[11], (Instant) row[12],
+                (FlightStatus) row[13]);
+    }
+
+    private String write(List<TripDTO> trips) {
+        try {
+            return objectMapper.writeValueAsString(trips);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize booking summary", e);
+        }
+    }
+
+    /**
+     * Refreshes run after the triggering transaction has committed but while it is still bound to the thread, so
+     * joining it would silently lose the write.
+     */
+    private <T> T inNewTransaction(TransactionCallback<T> callback) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate.execute(callback);
+    }
+
+    private <T> T withLocks(Collection<String> usernames, Supplier<T> action) {
+        SortedSet<Integer> stripes = usernames.stream()
+                .map(username -> Math.floorMod(username.hashCode(), LOCK_STRIPES))
+                .collect(Collectors.toCollection(TreeSet::new));
+        List<ReentrantLock> held = new ArrayList<>(stripes.size());
+        try {
+            for (int stripe : stripes) {
+                locks[stripe].lock();
+                held.add(locks[stripe]);
+            }
+            return action.get();
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    private void afterCommit(Runnable refresh) {
+        Runnable guarded = () -> {
+            try {
+                refresh.run();
+            } catch (RuntimeException e) {
+                log.warn("Booking summary refresh failed; the rebuild endpoint will repair it", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
@@ -0,0 +1,69 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.UserBookingSummary;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.data.repository.UserBookingSummaryRepository;
+import com.flightbookingsystem.data.repository.UserRepository;
+import com.flightbookingsystem.dto.BookingSummaryDTO;
+import com.flightbookingsystem.dto.TripDTO;
+import com.flightbookingsystem.exceptions.UserNotFoundException;
+import com.flightbookingsystem.services.BookingSummaryService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+@Validated
+public class BookingSummaryServiceImpl implements BookingSummaryService {
+    private final UserBookingSummaryRepository userBookingSummaryRepository;
+    private final UserRepository userRepository;
+    private final BookingSummaryProjection bookingSummaryProjection;
+
+    @Override
+    public BookingSummaryDTO getBookingSummary(String username) {
+        UserBookingSummary summary = userBookingSummaryRepository.findById(username)
+                .orElseGet(() -> refreshExisting(username));
+        return toBookingSummaryDTO(summary, Instant.now());
+    }
+
+    @Override
+    public long rebuild() {
+        return bookingSummaryProjection.rebuild();
+    }
+
+    @Override
+    public void rebuild(String username) {
+        refreshExisting(username);
+    }
+
+    private UserBookingSummary refreshExisting(String username) {
+        if (!userRepository.existsById(username)) {
+            throw new UserNotFoundException("User with username " + username + " not found");
+        }
+        return bookingSummaryProjection.refresh(username);
+    }
+
+    private BookingSummaryDTO toBookingSummaryDTO(UserBookingSummary summary, Instant now) {
+        List<TripDTO> upcoming = new ArrayList<>();
+        List<TripDTO> past = new ArrayList<>();
+        List<TripDTO> cancelled = new ArrayList<>();
+        for (TripDTO trip : bookingSummaryProjection.trips(summary)) {
+            if (trip.getFlightStatus() == FlightStatus.CANCELLED) {
+                cancelled.add(trip);
+            } else if (trip.getFlightStatus() == FlightStatus.LANDED
+                    || trip.getArrivalInstant() != null && trip.getArrivalInstant().isBefore(now)) {
+                past.add(trip);
+            } else {
+                upcoming.add(trip);
+            }
+        }
+        Collections.reverse(past);
+        return new BookingSummaryDTO(summary.getUsername(), upcoming, past, cancelled, summary.getUpdatedAt());
+    }
+}
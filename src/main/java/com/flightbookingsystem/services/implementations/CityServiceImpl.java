@@ -1,16 +1,22 @@
 package com.flightbookingsystem.services.implementations;
 
+import com.flightbookingsystem.config.CacheConfig;
 import com.flightbookingsystem.data.entity.City;
 import com.flightbookingsystem.data.enums.CountryCode;
 import com.flightbookingsystem.data.repository.CityRepository;
 import com.flightbookingsystem.dto.CityDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.create.CreateCityDTO;
 import com.flightbookingsystem.dto.update.UpdateCityDTO;
 import com.flightbookingsystem.exceptions.CityNotFoundException;
+import com.flightbookingsystem.mappers.CityMapper;
 import com.flightbookingsystem.services.CityService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -24,40 +30,59 @@ import java.util.stream.Collectors;
 @Validated
 public class CityServiceImpl implements CityService {
     private final CityRepository cityRepository;
-    private final ModelMapper modelMapper;
+    private final CityMapper cityMapper;
+    private final TypeaheadIndex typeaheadIndex;
+    private final FlightTimes flightTimes;
 
     private CityDTO convertToCityDTO(City city) {
-        return modelMapper.map(city, CityDTO.class);
+        return cityMapper.toCityDTO(city);
     }
 
     @Override
-    public List<CityDTO> getCities() {
-        return cityRepository.findAll().stream()
-                .map(this::convertToCityDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<CityDTO> getCities(String after, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<City> cityPage = cityRepository.findAllByCodeGreaterThan(after == null ? "" : after, PageRequest.of(0, limit, Sort.by("code")));
+        return CursorPageDTO.of(cityPage, limit, City::getCode, this::convertToCityDTO);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CITIES, key = "#code")
     public CityDTO getCity(String code) {
-        return modelMapper.map(cityRepository.findById(code)
-                .orElseThrow(() -> new CityNotFoundException("City with code " + code + " not found")), CityDTO.class);
+        return cityMapper.toCityDTO(cityRepository.findById(code)
+                .orElseThrow(() -> new CityNotFoundException("City with code " + code + " not found")));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CITIES, key = "#result.code")
     public City create(@Valid CreateCityDTO createCityDTO) {
-        return cityRepository.save(modelMapper.map(createCityDTO, City.class));
+        City city = cityRepository.save(cityMapper.toCity(createCityDTO));
+        typeaheadIndex.putCity(city);
+        return city;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CITIES, key = "#code"),
+            @CacheEvict(cacheNames = CacheConfig.AIRPORTS, allEntries = true)
+    })
     public City updateCity(String code, @Valid UpdateCityDTO updateCityDTO) {
-        City city = modelMapper.map(updateCityDTO, City.class);
+        City city = cityMapper.toCity(updateCityDTO);
         city.setCode(code);
-        return cityRepository.save(city);
+        City updatedCity = cityRepository.save(city);
+        typeaheadIndex.putCity(updatedCity);
+        flightTimes.evictAll();
+        return updatedCity;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CITIES, key = "#code"),
+            @CacheEvict(cacheNames = CacheConfig.AIRPORTS, allEntries = true)
+    })
     public void deleteCity(String code) {
         cityRepository.deleteById(code);
+        typeaheadIndex.removeCity(code);
+        flightTimes.evictAll();
     }
 
     @Override
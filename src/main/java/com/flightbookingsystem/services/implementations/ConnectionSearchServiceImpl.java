@@ -0,0 +1,125 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import com.flightbookingsystem.dto.FlightDTO;
+import com.flightbookingsystem.dto.ItineraryDTO;
+import com.flightbookingsystem.mappers.FlightMapper;
+import com.flightbookingsystem.services.ConnectionSearchService;
+import com.flightbookingsystem.services.implementations.RouteGraph.FlightLeg;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class ConnectionSearchServiceImpl implements ConnectionSearchService {
+    private static final int MAX_STOPS = 2;
+    private static final int MAX_RESULTS = 50;
+    private static final Duration MIN_CONNECTION_TIME = Duration.ofMinutes(45);
+    private static final Duration MAX_CONNECTION_TIME = Duration.ofHours(24);
+
+    private final RouteGraph routeGraph;
+    private final FlightRepository flightRepository;
+    private final FlightMapper flightMapper;
+    private final FarePricing farePricing;
+
+    @Override
+    public List<ItineraryDTO> searchConnections(String departureAirportCode, String arrivalAirportCode, LocalDate date) {
+        List<List<FlightLeg>> itineraries = new ArrayList<>();
+        for (FlightLeg firstLeg : routeGraph.getDeparturesOnLocalDate(departureAirportCode, date)) {
+            List<FlightLeg> path = new ArrayList<>(MAX_STOPS + 1);
+            path.add(firstLeg);
+            extend(path, arrivalAirportCode, itineraries);
+        }
+
+        List<List<FlightLeg>> best = itineraries.stream()
+                .sorted(Comparator.<List<FlightLeg>, Instant>comparing(legs -> legs.get(legs.size() - 1).arrivalInstant())
+                        .thenComparingInt(List::size))
+                .limit(MAX_RESULTS)
+                .toList();
+
+        List<Long> flightIds = best.stream()
+                .flatMap(List::stream)
+                .map(FlightLeg::flightId)
+                .distinct()
+                .toList();
+        Instant now = Instant.now();
+        Map<Long, FlightDTO> flights = flightRepository.findAllById(flightIds).stream()
+                .collect(Collectors.toMap(Flight::getId, flight -> convertToPricedFlightDTO(flight, now), (a, b) -> a));
+
+        return best.stream()
+                .map(legs -> convertToItineraryDTO(legs, flights::get, now.getEpochSecond()))
+                .collect(Collectors.toList());
+    }
+
+    private void extend(List<FlightLeg> path, String arrivalAirportCode, List<List<FlightLeg>> itineraries) {
+        FlightLeg lastLeg = path.get(path.size() - 1);
+        if (lastLeg.arrivalAirportCode().equals(arrivalAirportCode)) {
+            itineraries.add(List.copyOf(path));
+            return;
+        }
+        if (path.size() > MAX_STOPS) {
+            return;
+        }
+
+        Instant earliestDeparture = lastLeg.arrivalInstant().plus(MIN_CONNECTION_TIME);
+        Instant latestDeparture = lastLeg.arrivalInstant().plus(MAX_CONNECTION_TIME);
+        Iterable<FlightLeg> nextLegs = path.size() == MAX_STOPS
+                ? routeGraph.getDepartures(lastLeg.arrivalAirportCode(), arrivalAirportCode, earliestDeparture, latestDeparture)
+                : routeGraph.getDepartures(lastLeg.arrivalAirportCode(), earliestDeparture, latestDeparture);
+
+        for (FlightLeg nextLeg : nextLegs) {
+            if (isVisited(path, nextLeg.arrivalAirportCode())) {
+                continue;
+            }
+            path.add(nextLeg);
+            extend(path, arrivalAirportCode, itineraries);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private boolean isVisited(List<FlightLeg> path, String airportCode) {
+        return path.stream().anyMatch(leg -> leg.departureAirportCode().equals(airportCode));
+    }
+
+    private FlightDTO convertToPricedFlightDTO(Flight flight, Instant now) {
+        FlightDTO flightDTO = flightMapper.toFlightDTO(flight);
+        flightDTO.setFares(farePricing.fares(flight.getId(), LuggageType.FREE, now));
+        return flightDTO;
+    }
+
+    private ItineraryDTO convertToItineraryDTO(List<FlightLeg> legs, Function<Long, FlightDTO> flights, long nowEpochSecond) {
+        ItineraryDTO itinerary = new ItineraryDTO();
+        itinerary.setFlights(legs.stream()
+                .map(leg -> flights.apply(leg.flightId()))
+                .collect(Collectors.toList()));
+        itinerary.setStops(legs.size() - 1);
+        itinerary.setTotalDuration(Duration.between(legs.get(0).departureInstant(), legs.get(legs.size() - 1).arrivalInstant()));
+
+        long[] totalFares = new long[TravelClass.values().length];
+        for (FlightLeg leg : legs) {
+            for (TravelClass travelClass : TravelClass.values()) {
+                long fare = farePricing.quote(leg, travelClass, LuggageType.FREE, nowEpochSecond);
+                if (fare < 0) {
+                    // A leg that is no longer on sale makes the whole itinerary unbookable
+                    return itinerary;
+                }
+                totalFares[travelClass.ordinal()] += fare;
+            }
+        }
+        itinerary.setTotalFares(FarePricing.toAmounts(totalFares));
+        return itinerary;
+    }
+}
@@ -1,18 +1,25 @@
 package com.flightbookingsystem.services.implementations;
 
+import com.flightbookingsystem.config.CacheConfig;
 import com.flightbookingsystem.data.entity.City;
 import com.flightbookingsystem.data.entity.Country;
 import com.flightbookingsystem.data.enums.CountryCode;
 import com.flightbookingsystem.data.repository.CountryRepository;
 import com.flightbookingsystem.dto.CountryDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.create.CreateCountryDTO;
 import com.flightbookingsystem.dto.update.UpdateCountryDTO;
 import com.flightbookingsystem.exceptions.CountryNotFoundException;
+import com.flightbookingsystem.mappers.CountryMapper;
 import com.flightbookingsystem.services.CountryService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -24,40 +31,57 @@ import java.util.stream.Collectors;
 @Validated
 public class CountryServiceImpl implements CountryService {
     private final CountryRepository countryRepository;
-    private final ModelMapper modelMapper;
+    private final CountryMapper countryMapper;
+    private final TypeaheadIndex typeaheadIndex;
 
     private CountryDTO convertToCountryDTO(@Valid Country country) {
-        return modelMapper.map(country, CountryDTO.class);
+        return countryMapper.toCountryDTO(country);
     }
 
     @Override
-    public List<CountryDTO> getCountries() {
-        return countryRepository.findAll().stream()
-                .map(this::convertToCountryDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<CountryDTO> getCountries(Long after, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<Country> countryPage = countryRepository.findAllByIdGreaterThan(after == null ? 0L : after, PageRequest.of(0, limit, Sort.by("id")));
+        return CursorPageDTO.of(countryPage, limit, Country::getId, this::convertToCountryDTO);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.COUNTRIES, key = "#id")
     public CountryDTO getCountry(Long id) {
-        return modelMapper.map(countryRepository.findById(id)
-                .orElseThrow(() -> new CountryNotFoundException("Country with code " + id + " not found")), CountryDTO.class);
+        return countryMapper.toCountryDTO(countryRepository.findById(id)
+                .orElseThrow(() -> new CountryNotFoundException("Country with code " + id + " not found")));
     }
 
     @Override
     public Country create(@Valid CreateCountryDTO createCountryDTO) {
-        return countryRepository.save(modelMapper.map(createCountryDTO, Country.class));
+        Country country = countryRepository.save(countryMapper.toCountry(createCountryDTO));
+        typeaheadIndex.putCountry(country);
+        return country;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COUNTRIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CITIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.AIRPORTS, allEntries = true)
+    })
     public Country updateCountry(@Min(1) Long id, @Valid UpdateCountryDTO updateCountryDTO) {
-        Country country = modelMapper.map(updateCountryDTO, Country.class);
+        Country country = countryMapper.toCountry(updateCountryDTO);
         country.setId(id);
-        return countryRepository.save(country);
+        Country updatedCountry = countryRepository.save(country);
+        typeaheadIndex.putCountry(updatedCountry);
+        return updatedCountry;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COUNTRIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CITIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.AIRPORTS, allEntries = true)
+    })
     public void deleteCountry(Long id) {
         countryRepository.deleteById(id);
+        typeaheadIndex.removeCountry(id);
     }
 
 
@@ -77,7 +101,7 @@ public class CountryServiceImpl implements CountryService {
 
     @Override
     public CountryDTO getCountryByCity(City cityName) {
-        return modelMapper.map(countryRepository.findCountryByCitiesContains(cityName), CountryDTO.class);
+        return countryMapper.toCountryDTO(countryRepository.findCountryByCitiesContains(cityName));
     }
 
     @Override
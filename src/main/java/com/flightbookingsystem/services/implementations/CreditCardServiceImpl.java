@@ -7,10 +7,10 @@ import com.flightbookingsystem.dto.CreditCardDTO;
 import com.flightbookingsystem.dto.create.CreateCreditCardDTO;
 import com.flightbookingsystem.dto.update.UpdateCreditCardDTO;
 import com.flightbookingsystem.exceptions.CreditCardNotFoundException;
+import com.flightbookingsystem.mappers.CreditCardMapper;
 import com.flightbookingsystem.services.CreditCardService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -23,11 +23,11 @@ import java.util.stream.Collectors;
 @Validated
 public class CreditCardServiceImpl implements CreditCardService {
     private final CreditCardRepository creditCardRepository;
-    private final ModelMapper modelMapper;
+    private final CreditCardMapper creditCardMapper;
 
 
     private CreditCardDTO convertToCreditCardDTO(CreditCard CreditCard) {
-        return modelMapper.map(CreditCard, CreditCardDTO.class);
+        return creditCardMapper.toCreditCardDTO(CreditCard);
     }
 
     @Override
@@ -39,20 +39,20 @@ public class CreditCardServiceImpl implements CreditCardService {
 
     @Override
     public CreditCardDTO getCreditCard(String cardNumber) {
-        return modelMapper.map(creditCardRepository.findById(cardNumber)
-                .orElseThrow(() -> new CreditCardNotFoundException("Credit card with number " + cardNumber + " not found")), CreditCardDTO.class);
+        return creditCardMapper.toCreditCardDTO(creditCardRepository.findById(cardNumber)
+                .orElseThrow(() -> new CreditCardNotFoundException("Credit card with number " + cardNumber + " not found")));
     }
 
     @Override
     public CreditCard create(@Valid CreateCreditCardDTO createCreditCardDTO) {
-        CreditCard creditCard = modelMapper.map(createCreditCardDTO, CreditCard.class);
+        CreditCard creditCard = creditCardMapper.toCreditCard(createCreditCardDTO);
         creditCard.setCardType(determineCardType(creditCard.getCardNumber()));
         return creditCardRepository.save(creditCard);
     }
 
     @Override
     public CreditCard updateCreditCard(String cardNumber, @Valid UpdateCreditCardDTO updateCreditCardDTO) {
-        CreditCard CreditCard = modelMapper.map(updateCreditCardDTO, CreditCard.class);
+        CreditCard CreditCard = creditCardMapper.toCreditCard(updateCreditCardDTO);
         CreditCard.setCardNumber(cardNumber);
         return creditCardRepository.save(CreditCard);
     }
@@ -0,0 +1,146 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import com.flightbookingsystem.services.implementations.RouteGraph.FlightLeg;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Prices a seat from the flight's starting price, the travel class, the luggage option, the current load factor
+ * and the days left to departure. Every factor is looked up in a table precomputed at class load, and fares are
+ * plain longs in minor currency units, so quoting thousands of search results costs no database reads and no
+ * {@link BigDecimal} arithmetic; amounts are only converted at the edge.
+ */
+@Component
+@RequiredArgsConstructor
+public class FarePricing {
+    public static final int CURRENCY_SCALE = 2;
+    public static final int MAX_DAYS_TO_DEPARTURE = 365;
+
+    private static final long ONE = 10_000;
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private static final long[] CLASS_FACTORS = new long[TravelClass.values().length];
+    private static final long[] LUGGAGE_FEES = new long[LuggageType.values().length];
+    private static final long[] LOAD_FACTORS = new long[SeatInventory.SEAT_COUNT + 1];
+    private static final long[] DAYS_FACTORS = new long[MAX_DAYS_TO_DEPARTURE + 1];
+
+    static {
+        CLASS_FACTORS[TravelClass.ECONOMY.ordinal()] = ONE;
+        CLASS_FACTORS[TravelClass.BUSINESS.ordinal()] = 25_000;
+        CLASS_FACTORS[TravelClass.FIRST.ordinal()] = 40_000;
+
+        LUGGAGE_FEES[LuggageType.FREE.ordinal()] = 0;
+        LUGGAGE_FEES[LuggageType.CABIN.ordinal()] = 2_500;
+        LUGGAGE_FEES[LuggageType.CHECKED_AND_CABIN.ordinal()] = 6_000;
+
+        double[] loadFactors = {0.0, 0.5, 0.85, 1.0};
+        double[] loadMultipliers = {1.0, 1.0, 1.35, 2.0};
+        for (int taken = 0; taken < LOAD_FACTORS.length; taken++) {
+            LOAD_FACTORS[taken] = interpolate((double) taken / SeatInventory.SEAT_COUNT, loadFactors, loadMultipliers);
+        }
+
+        double[] days = {0, 1, 7, 21, 60, MAX_DAYS_TO_DEPARTURE};
+        double[] dayMultipliers = {1.6, 1.6, 1.3, 1.1, 0.9, 0.9};
+        for (int day = 0; day < DAYS_FACTORS.length; day++) {
+            DAYS_FACTORS[day] = interpolate(day, days, dayMultipliers);
+        }
+    }
+
+    private final RouteGraph routeGraph;
+    private final SeatInventory seatInventory;
+
+    /**
+     * Fare in minor currency units, or -1 when the flight is not on sale (unknown, cancelled or already departed).
+     */
+    public long quote(Long flightId, TravelClass travelClass, LuggageType luggageType, long nowEpochSecond) {
+        FlightLeg leg = routeGraph.getLeg(flightId);
+        return leg == null ? -1 : quote(leg, travelClass, luggageType, nowEpochSecond);
+    }
+
+    public long quote(FlightLeg leg, TravelClass travelClass, LuggageType luggageType, long nowEpochSecond) {
+        long secondsToDeparture = leg.departureInstant().getEpochSecond() - nowEpochSecond;
+        if (secondsToDeparture <= 0) {
+            return -1;
+        }
+        int taken = SeatInventory.SEAT_COUNT - seatInventory.getAvailableSeatCount(leg.flightId());
+        return price(leg.startingPriceMinor(), travelClass, luggageType, taken, secondsToDeparture);
+    }
+
+    /**
+     * Fare in minor currency units for a seat sold {@code secondsToDeparture} before departure while {@code seatsTaken}
+     * seats of the flight were already sold.
+     */
+    public static long price(long startingPriceMinor, TravelClass travelClass, LuggageType luggageType, int seatsTaken, long secondsToDeparture) {
+        int day = (int) Math.max(0, Math.min(MAX_DAYS_TO_DEPARTURE, secondsToDeparture / SECONDS_PER_DAY));
+
+        long fare = scale(startingPriceMinor, CLASS_FACTORS[travelClass.ordinal()]);
+        fare = scale(fare, LOAD_FACTORS[seatsTaken]);
+        fare = scale(fare, DAYS_FACTORS[day]);
+        return fare + LUGGAGE_FEES[luggageType.ordinal()];
+    }
+
+    public BigDecimal quoteAmount(Long flightId, TravelClass travelClass, LuggageType luggageType, Instant now) {
+        long fare = quote(flightId, travelClass, luggageType, now.getEpochSecond());
+        return fare < 0 ? null : toAmount(fare);
+    }
+
+    /**
+     * Fares for every travel class with the given luggage option, or {@code null} when the flight is not on sale.
+     */
+    public Map<TravelClass, BigDecimal> fares(Long flightId, LuggageType luggageType, Instant now) {
+        long[] fares = fareTable(flightId, luggageType, now.getEpochSecond());
+        return fares == null ? null : toAmounts(fares);
+    }
+
+    /**
+     * Fares indexed by {@link TravelClass#ordinal()}, or {@code null} when the flight is not on sale.
+     */
+    public long[] fareTable(Long flightId, LuggageType luggageType, long nowEpochSecond) {
+        FlightLeg leg = routeGraph.getLeg(flightId);
+        if (leg == null || leg.departureInstant().getEpochSecond() <= nowEpochSecond) {
+            return null;
+        }
+        long[] fares = new long[CLASS_FACTORS.length];
+        for (TravelClass travelClass : TravelClass.values()) {
+            fares[travelClass.ordinal()] = quote(leg, travelClass, luggageType, nowEpochSecond);
+        }
+        return fares;
+    }
+
+    public static Map<TravelClass, BigDecimal> toAmounts(long[] fares) {
+        Map<TravelClass, BigDecimal> amounts = new EnumMap<>(TravelClass.class);
+        for (TravelClass travelClass : TravelClass.values()) {
+            amounts.put(travelClass, toAmount(fares[travelClass.ordinal()]));
+        }
+        return amounts;
+    }
+
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(CURRENCY_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long minor) {
+        return BigDecimal.valueOf(minor, CURRENCY_SCALE);
+    }
+
+    private static long scale(long value, long factor) {
+        return (value * factor + ONE / 2) / ONE;
+    }
+
+    private static long interpolate(double x, double[] xs, double[] ys) {
+        int i = 1;
+        while (i < xs.length - 1 && x > xs[i]) {
+            i++;
+        }
+        double t = xs[i] == xs[i - 1] ? 1 : (x - xs[i - 1]) / (xs[i] - xs[i - 1]);
+        return Math.round((ys[i - 1] + t * (ys[i] - ys[i - 1])) * ONE);
+    }
+}
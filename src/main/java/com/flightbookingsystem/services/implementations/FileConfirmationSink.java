@@ -0,0 +1,48 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flightbookingsystem.services.ConfirmationSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for the e-mail channel: writes one confirmation document per booking and appends a line to a
+ * notification log, both under {@code outbox.confirmations-dir}. Booking references are reduced to letters, digits and
+ * dashes before they are used in a file name, so no reference can point outside that directory.
+ */
+@Component
+public class FileConfirmationSink implements ConfirmationSink {
+    private static final Pattern UNSAFE_CHARACTERS = Pattern.compile("[^A-Za-z0-9-]");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public FileConfirmationSink(@Value("${outbox.confirmations-dir}") Path directory, ObjectMapper objectMapper) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(String bookingReference, Map<String, Object> confirmation) throws IOException {
+        String safeReference = UNSAFE_CHARACTERS.matcher(bookingReference).replaceAll("_");
+        Path file = directory.resolve("confirmation-" + safeReference + ".json").normalize();
+        if (!file.startsWith(directory)) {
+            throw new IOException("Confirmation for " + safeReference + " would be written outside " + directory);
+        }
+        Files.createDirectories(directory);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), confirmation);
+
+        String notification = Instant.now() + " booking " + safeReference + " confirmed for " + confirmation.get("username") + System.lineSeparator();
+        Files.writeString(directory.resolve("notifications.log"), notification, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,326 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.dto.FlightImportResultDTO;
+import com.flightbookingsystem.exceptions.AirportNotFoundException;
+import com.flightbookingsystem.exceptions.InvalidDurationException;
+import com.flightbookingsystem.services.FlightImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ValidationException;
+import lombok.AllArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a flight schedule from CSV or NDJSON, validating each row on its own and writing valid rows in JDBC batches.
+ * Flight ids come from the pooled table generator, so Hibernate can batch the inserts instead of issuing one
+ * round trip per row. A bad row is reported with its line number and skipped; it never aborts the rest of the import.
+ * If the database rejects a batch, its rows are retried one at a time so only the offending lines are reported.
+ * Each committed flight is added to the {@link RouteGraph} as soon as its transaction commits.
+ */
+@Service
+@AllArgsConstructor
+public class FlightImportServiceImpl implements FlightImportService {
+    private static final int BATCH_SIZE = 1000;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final FlightTimes flightTimes;
+    private final RouteGraph routeGraph;
+    private final ObjectMapper objectMapper;
+
+    private record PendingFlight(long line,
+                                 String flightNumber,
+                                 String departureAirportCode,
+                                 String arrivalAirportCode,
+                                 LocalDateTime departureTime,
+                                 LocalDateTime arrivalTime,
+                                 FlightStatus flightStatus,
+                                 BigDecimal startingPrice,
+                                 FlightTimes.NormalizedTimes times) {
+    }
+
+    private record CsvRecord(long line, List<String> values, boolean unterminated) {
+    }
+
+    @Override
+    public FlightImportResultDTO importCsv(InputStream input) {
+        return importRows(input, (reader, run) -> {
+            CsvReader csv = new CsvReader(reader);
+            CsvRecord header = csv.next();
+            if (header == null) {
+                return;
+            }
+
+            CsvRecord record;
+            while ((record = csv.next()) != null) {
+                if (record.unterminated()) {
+                    run.result.reject(record.line(), "Unterminated quoted field");
+                    continue;
+                }
+                if (record.values().size() != header.values().size()) {
+                    run.result.reject(record.line(), "Expected " + header.values().size() + " columns but found " + record.values().size());
+                    continue;
+                }
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < header.values().size(); i++) {
+                    row.put(header.values().get(i).trim(), record.values().get(i).trim());
+                }
+                run.accept(record.line(), row);
+            }
+        });
+    }
+
+    @Override
+    public FlightImportResultDTO importNdjson(InputStream input) {
+        return importRows(input, (reader, run) -> {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Map<String, String> row = objectMapper.readValue(line, ROW_TYPE).entrySet().stream()
+                            .filter(entry -> entry.getValue() != null)
+                            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toString()));
+                    run.accept(lineNumber, row);
+                } catch (JsonProcessingException e) {
+                    run.result.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        });
+    }
+
+    private interface RowReader {
+        void read(BufferedReader reader, ImportRun run) throws IOException;
+    }
+
+    private FlightImportResultDTO importRows(InputStream input, RowReader rowReader) {
+        ImportRun run = new ImportRun();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            skipByteOrderMark(reader);
+            rowReader.read(reader, run);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            run.flush();
+        }
+        return run.result;
+    }
+
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        // Spreadsheet exports often start with a UTF-8 BOM, which would otherwise end up in the first column name
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+    }
+
+    /**
+     * RFC 4180 records: a field may be wrapped in double quotes, and a quoted field may contain commas, doubled quotes
+     * and line breaks. Blank lines between records are skipped, and each record keeps the line it started on.
+     */
+    private static final class CsvReader {
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        CsvRecord next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+
+            long recordLine = lineNumber;
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        values.add(value.toString());
+                        return new CsvRecord(recordLine, values, false);
+                    }
+                    line = reader.readLine();
+                    if (line == null) {
+                        values.add(value.toString());
+                        return new CsvRecord(recordLine, values, true);
+                    }
+                    lineNumber++;
+                    value.append('\n');
+                    i = 0;
+                    continue;
+                }
+
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        value.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '"' && value.toString().isBlank()) {
+                    value.setLength(0);
+                    quoted = true;
+                } else {
+                    value.append(c);
+                }
+            }
+        }
+    }
+
+    private final class ImportRun {
+        private final List<PendingFlight> batch = new ArrayList<>(BATCH_SIZE);
+        private final FlightImportResultDTO result = new FlightImportResultDTO();
+
+        void accept(long line, Map<String, String> row) {
+            try {
+                batch.add(toPendingFlight(line, row));
+            } catch (IllegalArgumentException | DateTimeParseException | InvalidDurationException | AirportNotFoundException e) {
+                result.reject(line, e.getMessage());
+                return;
+            }
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Flight> flights = new ArrayList<>(batch.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(BATCH_SIZE);
+                    for (PendingFlight pending : batch) {
+                        Flight flight = toFlight(pending);
+                        entityManager.persist(flight);
+                        flights.add(flight);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                result.setImported(result.getImported() + batch.size());
+                flights.forEach(routeGraph::addFlight);
+            } catch (DataAccessException | PersistenceException | ValidationException e) {
+                batch.forEach(this::persistAlone);
+            }
+            batch.clear();
+        }
+
+        private void persistAlone(PendingFlight pending) {
+            Flight flight;
+            try {
+                flight = transactionTemplate.execute(status -> {
+                    Flight persisted = toFlight(pending);
+                    entityManager.persist(persisted);
+                    entityManager.flush();
+                    entityManager.clear();
+                    return persisted;
+                });
+            } catch (DataAccessException | PersistenceException | ValidationException e) {
+                result.reject(pending.line(), "Insert failed: " + e.getMessage());
+                return;
+            }
+            result.setImported(result.getImported() + 1);
+            routeGraph.addFlight(flight);
+        }
+
+        private Flight toFlight(PendingFlight pending) {
+            Flight flight = new Flight();
+            flight.setFlightNumber(pending.flightNumber());
+            flight.setDepartureAirport(entityManager.getReference(Airport.class, pending.departureAirportCode()));
+            flight.setArrivalAirport(entityManager.getReference(Airport.class, pending.arrivalAirportCode()));
+            flight.setDepartureTime(pending.departureTime());
+            flight.setArrivalTime(pending.arrivalTime());
+            flight.setFlightStatus(pending.flightStatus());
+            flight.setStartingPrice(pending.startingPrice());
+            flight.setDepartureInstant(pending.times().departureInstant());
+            flight.setArrivalInstant(pending.times().arrivalInstant());
+            flight.setDuration(pending.times().duration());
+            return flight;
+        }
+
+        private PendingFlight toPendingFlight(long line, Map<String, String> row) {
+            String flightNumber = required(row, "flightNumber");
+            String departureAirportCode = required(row, "departureAirport");
+            String arrivalAirportCode = required(row, "arrivalAirport");
+            if (departureAirportCode.equals(arrivalAirportCode)) {
+                throw new IllegalArgumentException("Departure and arrival airport must differ");
+            }
+
+            LocalDateTime departureTime = LocalDateTime.parse(required(row, "departureTime"));
+            LocalDateTime arrivalTime = LocalDateTime.parse(required(row, "arrivalTime"));
+
+            BigDecimal startingPrice = new BigDecimal(required(row, "startingPrice"));
+            if (startingPrice.signum() <= 0) {
+                throw new IllegalArgumentException("Price must be positive!");
+            }
+
+            String status = row.get("flightStatus");
+            FlightStatus flightStatus = status == null || status.isBlank()
+                    ? FlightStatus.SCHEDULED
+                    : FlightStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+
+            FlightTimes.NormalizedTimes times = flightTimes.normalize(departureAirportCode, departureTime, arrivalAirportCode, arrivalTime);
+            if (times.duration().isNegative()) {
+                throw new InvalidDurationException("Flight duration cannot be negative!");
+            }
+            return new PendingFlight(line, flightNumber, departureAirportCode, arrivalAirportCode,
+                    departureTime, arrivalTime, flightStatus, startingPrice, times);
+        }
+
+        private String required(Map<String, String> row, String column) {
+            String value = row.get(column);
+            if (value == null || value.isBlank()) {
+                throw new IllegalArgumentException("Missing value for " + column);
+            }
+            return value.trim();
+        }
+    }
+}
@@ -1,71 +1,167 @@
 package com.flightbookingsystem.services.implementations;
 
-import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.data.entity.Airport;
 import com.flightbookingsystem.data.entity.Flight;
 import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.data.enums.LuggageType;
 import com.flightbookingsystem.data.repository.FlightRepository;
+import com.flightbookingsystem.dto.BatchItemResultDTO;
+import com.flightbookingsystem.dto.BatchResultDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.FlightDTO;
+import com.flightbookingsystem.dto.FlightSummaryDTO;
 import com.flightbookingsystem.dto.create.CreateFlightDTO;
 import com.flightbookingsystem.dto.update.UpdateFlightDTO;
+import com.flightbookingsystem.exceptions.AirportNotFoundException;
 import com.flightbookingsystem.exceptions.FlightNotFoundException;
 import com.flightbookingsystem.exceptions.InvalidDurationException;
+import com.flightbookingsystem.mappers.FlightMapper;
 import com.flightbookingsystem.services.FlightService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
-import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 @Validated
 public class FlightServiceImpl implements FlightService {
     private final FlightRepository flightRepository;
-    private final ModelMapper modelMapper;
+    private final FlightMapper flightMapper;
+    private final RouteGraph routeGraph;
+    private final FlightTimes flightTimes;
+    private final FlightStatusEventBus flightStatusEventBus;
+    private final BookingSummaryProjection bookingSummaryProjection;
+    private final FarePricing farePricing;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchSupport batchSupport;
 
     private FlightDTO convertToFlightDTO(Flight flight) {
-        return modelMapper.map(flight, FlightDTO.class);
+        return flightMapper.toFlightDTO(flight);
     }
 
     @Override
-    public List<FlightDTO> getFlights() {
-        return flightRepository.findAll().stream()
-                .map(this::convertToFlightDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<FlightSummaryDTO> getFlights(Long after, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<FlightSummaryDTO> flightPage = flightRepository.findFlightSummariesAfter(after == null ? 0L : after, PageRequest.of(0, limit));
+        return CursorPageDTO.of(flightPage, limit, FlightSummaryDTO::getId, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportFlights(Consumer<FlightSummaryDTO> consumer) {
+        try (Stream<FlightSummaryDTO> flights = flightRepository.streamAllFlightSummaries()) {
+            flights.forEach(consumer);
+        }
     }
 
     @Override
     public FlightDTO getFlight(@Min(1) Long id) {
-        return modelMapper.map(flightRepository.findById(id)
-                .orElseThrow(() -> new FlightNotFoundException("Flight with id " + id + " not found")), FlightDTO.class);
+        return flightMapper.toFlightDTO(flightRepository.findById(id)
+                .orElseThrow(() -> new FlightNotFoundException("Flight with id " + id + " not found")));
     }
 
     @Override
     public Flight create(@Valid CreateFlightDTO createFlightDTO) {
-        Flight createFlight = modelMapper.map(createFlightDTO, Flight.class);
+        Flight createFlight = flightMapper.toFlight(createFlightDTO);
         createFlight.setFlightStatus(FlightStatus.SCHEDULED);
         setDuration(createFlight);
-        return flightRepository.save(createFlight);
+        Flight savedFlight = flightRepository.save(createFlight);
+        routeGraph.addFlight(savedFlight);
+        return savedFlight;
+    }
+
+    /**
+     * Creates a batch of flights all-or-nothing: every item is validated and its times normalized before anything is
+     * written, then all flights are inserted in one transaction using JDBC batching.
+     */
+    @Override
+    public BatchResultDTO createFlights(List<CreateFlightDTO> createFlightDTOs) {
+        BatchResultDTO result = BatchResultDTO.of(createFlightDTOs.size());
+        List<Flight> flights = new ArrayList<>(createFlightDTOs.size());
+        for (int index = 0; index < createFlightDTOs.size(); index++) {
+            String violations = batchSupport.violations(createFlightDTOs.get(index));
+            if (violations != null) {
+                result.reject(index, BatchItemResultDTO.Status.INVALID, violations);
+                flights.add(null);
+                continue;
+            }
+            Flight flight = flightMapper.toFlight(createFlightDTOs.get(index));
+            flight.setFlightStatus(FlightStatus.SCHEDULED);
+            if (flight.getDepartureAirport().getCode() == null || flight.getArrivalAirport().getCode() == null) {
+                result.reject(index, BatchItemResultDTO.Status.INVALID, "Departure and arrival airport codes must be set!");
+            } else {
+                try {
+                    setDuration(flight);
+                } catch (InvalidDurationException | AirportNotFoundException e) {
+                    result.reject(index, BatchItemResultDTO.Status.INVALID, e.getMessage());
+                }
+            }
+            flights.add(flight);
+        }
+        if (result.hasRejections()) {
+            return result;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Flight flight : flights) {
+                    flight.setDepartureAirport(entityManager.getReference(Airport.class, flight.getDepartureAirport().getCode()));
+                    flight.setArrivalAirport(entityManager.getReference(Airport.class, flight.getArrivalAirport().getCode()));
+                    entityManager.persist(flight);
+                }
+                entityManager.flush();
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            batchSupport.writeFailed(result, e);
+            return result;
+        }
+
+        for (int index = 0; index < flights.size(); index++) {
+            routeGraph.addFlight(flights.get(index));
+            result.created(index, String.valueOf(flights.get(index).getId()));
+        }
+        result.setCommitted(true);
+        return result;
     }
 
     @Override
     public Flight updateFlight(@Min(1) Long id, @Valid UpdateFlightDTO updateFlightDTO) {
-        Flight flight = modelMapper.map(updateFlightDTO, Flight.class);
+        Flight flight = flightMapper.toFlight(updateFlightDTO);
         flight.setId(id);
         setDuration(flight);
-        return flightRepository.save(flight);
+        FlightStatus previousStatus = flightRepository.findFlightStatusById(id).orElse(null);
+        Flight savedFlight = flightRepository.save(flight);
+        routeGraph.addFlight(savedFlight);
+        if (previousStatus != null && previousStatus != savedFlight.getFlightStatus()) {
+            flightStatusEventBus.publish(savedFlight, previousStatus);
+        }
+        bookingSummaryProjection.flightChanged(id);
+        return savedFlight;
     }
 
     @Override
     public void deleteFlight(Long id) {
         flightRepository.deleteById(id);
+        routeGraph.removeFlight(id);
     }
 
     @Override
@@ -89,31 +185,21 @@ public class FlightServiceImpl implements FlightService {
 
     @Override
     public List<FlightDTO> getFlightsDepartureAirportCodeAndArrivalAirportCodeAndDepartureDate(String departureAirportCode, String ArrivalAirportCode, LocalDate date) {
-        return flightRepository.findAllByDepartureAirportCodeAndArrivalAirportCode(departureAirportCode, ArrivalAirportCode)
+        LocalDateTime startOfDay = date.atStartOfDay();
+        Instant now = Instant.now();
+        return flightRepository.findAllByRouteAndDepartureTimeInRange(departureAirportCode, ArrivalAirportCode, startOfDay, startOfDay.plusDays(1))
                 .stream()
-                .map(this::convertToFlightDTO)
-                .filter(flightDTO -> flightDTO.getDepartureTime().toLocalDate().equals(date))
+                .map(flight -> convertToPricedFlightDTO(flight, now))
                 .collect(Collectors.toList());
     }
 
-    private void setDuration(Flight flight){
-        City departureCity = flight.getDepartureAirport().getCity();
-        City arrivalCity = flight.getArrivalAirport().getCity();
-
-        int timeZoneOffSetInMinutesDepartureCity= departureCity.getTimeZone().getRawOffset() / 60000;
-        int timeZoneOffSetInMinutesArrivalCity = arrivalCity.getTimeZone().getRawOffset() / 60000;
-
-        int offSetBetweenAirportsInMinutes = timeZoneOffSetInMinutesDepartureCity - timeZoneOffSetInMinutesArrivalCity;
-
-        LocalDateTime departureTime = flight.getDepartureTime();
-        LocalDateTime arrivalTime = flight.getArrivalTime();
-
-        LocalDateTime arrivalTimeWithOffset = arrivalTime.plusMinutes(offSetBetweenAirportsInMinutes);
-        Duration flightDuration = Duration.between(departureTime, arrivalTimeWithOffset);
+    private FlightDTO convertToPricedFlightDTO(Flight flight, Instant now) {
+        FlightDTO flightDTO = convertToFlightDTO(flight);
+        flightDTO.setFares(farePricing.fares(flight.getId(), LuggageType.FREE, now));
+        return flightDTO;
+    }
 
-        if (flightDuration.isNegative()){
-            throw new InvalidDurationException("Flight duration cannot be negative!");
-        }
-        flight.setDuration(flightDuration);
+    private void setDuration(Flight flight){
+        flightTimes.apply(flight);
     }
 }
@@ -0,0 +1,298 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.dto.FlightStatusEventDTO;
+import com.flightbookingsystem.services.FlightStatusService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process fan-out of flight status transitions. Publishers claim a slot in a fixed-size ring buffer and never
+ * block; a single dispatcher thread walks the ring and hands each event only to the subscribers indexed under its
+ * flight id or flight number, so an idle subscriber costs a few map entries and no thread. Each subscriber has a small
+ * bounded mailbox drained on a shared pool. A subscriber that falls behind is closed rather than allowed to hold up
+ * the others; it can reconnect with its last event id and replay whatever is still in the ring.
+ */
+@Component
+public class FlightStatusEventBus implements FlightStatusService, DisposableBean {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final Object HEARTBEAT = new Object();
+
+    private final AtomicReferenceArray<FlightStatusEventDTO> ring;
+    private final int ringMask;
+    private final AtomicLong lastSequence = new AtomicLong();
+    private final int mailboxCapacity;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> subscribersByFlightId = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscriber>> subscribersByFlightNumber = new ConcurrentHashMap<>();
+
+    private final ExecutorService deliveryExecutor;
+    private final Thread dispatcher;
+    private final Counter droppedSubscribers;
+    private volatile boolean running = true;
+
+    public FlightStatusEventBus(@Value("${flight-status.ring-size:4096}") int ringSize,
+                                @Value("${flight-status.mailbox-capacity:64}") int mailboxCapacity,
+                                MeterRegistry meterRegistry) {
+        if (Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("flight-status.ring-size must be a power of two");
+        }
+        this.ring = new AtomicReferenceArray<>(ringSize);
+        this.ringMask = ringSize - 1;
+        this.mailboxCapacity = mailboxCapacity;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("flight-status-push-");
+        threadFactory.setDaemon(true);
+        this.deliveryExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threadFactory);
+
+        Gauge.builder("flight.status.subscribers", subscribers, Set::size).register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("flight.status.subscribers.dropped").register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "flight-status-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    public void publish(Flight flight, FlightStatus previousStatus) {
+        long sequence = lastSequence.incrementAndGet();
+        ring.set(slot(sequence), new FlightStatusEventDTO(sequence, flight.getId(), flight.getFlightNumber(),
+                previousStatus, flight.getFlightStatus(), Instant.now()));
+        LockSupport.unpark(dispatcher);
+    }
+
+    /**
+     * A replaying subscriber is registered first, so nothing published meanwhile is missed, but the dispatcher only
+     * parks live events with it until the ring has been copied into the mailbox; the parked events newer than the
+     * replay are then appended, which keeps the mailbox in sequence order.
+     */
+    @Override
+    public Subscription subscribe(Set<Long> flightIds, Set<String> flightNumbers, Long lastEventId, Listener listener) {
+        Subscriber subscriber = new Subscriber(Set.copyOf(flightIds), Set.copyOf(flightNumbers), listener, lastEventId != null);
+        subscribers.add(subscriber);
+        subscriber.flightIds.forEach(id -> subscribersByFlightId.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(subscriber));
+        subscriber.flightNumbers.forEach(number -> subscribersByFlightNumber.computeIfAbsent(number, key -> ConcurrentHashMap.newKeySet()).add(subscriber));
+
+        if (lastEventId != null) {
+            subscriber.goLive(replay(subscriber, lastEventId));
+        }
+        return subscriber;
+    }
+
+    @Scheduled(fixedDelayString = "${flight-status.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        // Keeps idle connections open through proxies and finds clients that went away
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        subscribers.forEach(Subscriber::cancel);
+        deliveryExecutor.shutdown();
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence & ringMask);
+    }
+
+    /**
+     * Copies the subscriber's events after {@code lastEventId} from the ring and returns the last sequence covered.
+     * Stops at the first slot a publisher has claimed but not yet written; that event and everything after it reach
+     * the subscriber through the dispatcher instead.
+     */
+    private long replay(Subscriber subscriber, long lastEventId) {
+        long last = lastSequence.get();
+        long sequence = Math.max(lastEventId + 1, last - ring.length() + 1);
+        for (; sequence <= last; sequence++) {
+            FlightStatusEventDTO event = ring.get(slot(sequence));
+            if (event == null || event.getSequence() < sequence) {
+                break;
+            }
+            if (event.getSequence() == sequence && subscriber.matches(event)) {
+                subscriber.offer(event);
+            }
+        }
+        return sequence - 1;
+    }
+
+    private void dispatchLoop() {
+        long next = 1;
+        while (running) {
+            long last = lastSequence.get();
+            if (next > last) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            // If publishers lapped the dispatcher, the overwritten events are gone
+            next = Math.max(next, last - ring.length() + 1);
+
+            FlightStatusEventDTO event = ring.get(slot(next));
+            if (event == null || event.getSequence() < next) {
+                // The sequence is claimed but the publisher has not written the slot yet
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            if (event.getSequence() == next) {
+                deliver(event);
+            }
+            next++;
+        }
+    }
+
+    private void deliver(FlightStatusEventDTO event) {
+        Set<Subscriber> byFlightId = subscribersByFlightId.get(event.getFlightId());
+        if (byFlightId != null) {
+            byFlightId.forEach(subscriber -> subscriber.offerLive(event));
+        }
+        Set<Subscriber> byFlightNumber = subscribersByFlightNumber.get(event.getFlightNumber());
+        if (byFlightNumber != null) {
+            for (Subscriber subscriber : byFlightNumber) {
+                if (byFlightId == null || !byFlightId.contains(subscriber)) {
+                    subscriber.offerLive(event);
+                }
+            }
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.flightIds.forEach(id -> subscribersByFlightId.computeIfPresent(id, (key, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        }));
+        subscriber.flightNumbers.forEach(number -> subscribersByFlightNumber.computeIfPresent(number, (key, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        }));
+    }
+
+    private final class Subscriber implements Subscription {
+        private final Set<Long> flightIds;
+        private final Set<String> flightNumbers;
+        private final Listener listener;
+        private final Queue<Object> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private List<FlightStatusEventDTO> parked;
+        private volatile boolean live;
+        private long lastDelivered;
+
+        Subscriber(Set<Long> flightIds, Set<String> flightNumbers, Listener listener, boolean replaying) {
+            this.flightIds = flightIds;
+            this.flightNumbers = flightNumbers;
+            this.listener = listener;
+            this.parked = replaying ? new ArrayList<>() : null;
+            this.live = !replaying;
+        }
+
+        boolean matches(FlightStatusEventDTO event) {
+            return flightIds.contains(event.getFlightId()) || flightNumbers.contains(event.getFlightNumber());
+        }
+
+        void offerLive(FlightStatusEventDTO event) {
+            if (!live) {
+                synchronized (this) {
+                    if (!live) {
+                        parked.add(event);
+                        return;
+                    }
+                }
+            }
+            offer(event);
+        }
+
+        synchronized void goLive(long replayedUpTo) {
+            for (FlightStatusEventDTO event : parked) {
+                if (event.getSequence() > replayedUpTo) {
+                    offer(event);
+                }
+            }
+            parked = null;
+            live = true;
+        }
+
+        void offer(Object message) {
+            if (closed.get()) {
+                return;
+            }
+            if (pending.incrementAndGet() > mailboxCapacity) {
+                droppedSubscribers.increment();
+                cancel();
+                return;
+            }
+            mailbox.offer(message);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    cancel();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Object message;
+                while (!closed.get() && (message = mailbox.poll()) != null) {
+                    pending.decrementAndGet();
+                    if (message == HEARTBEAT) {
+                        listener.onHeartbeat();
+                    } else if (message instanceof FlightStatusEventDTO event && event.getSequence() > lastDelivered) {
+                        // Guards against delivering a sequence twice should a replayed and a live copy both arrive
+                        lastDelivered = event.getSequence();
+                        listener.onEvent(event);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                cancel();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed.get() && !mailbox.isEmpty()) {
+                schedule();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (closed.compareAndSet(false, true)) {
+                unregister(this);
+                mailbox.clear();
+                listener.onClose();
+            }
+        }
+    }
+}
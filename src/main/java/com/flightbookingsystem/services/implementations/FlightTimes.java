@@ -0,0 +1,90 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.repository.AirportRepository;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import com.flightbookingsystem.exceptions.AirportNotFoundException;
+import com.flightbookingsystem.exceptions.InvalidDurationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts local departure and arrival times to UTC instants with the full {@link ZoneId} rules of each airport's
+ * city, so durations stay correct across daylight saving changes. Zones are cached per airport code; airport and
+ * city writes evict them. Local times that fall in a DST gap are shifted forward, and ambiguous times in an
+ * overlap resolve to the earlier offset.
+ */
+@Component
+@RequiredArgsConstructor
+public class FlightTimes {
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final AirportRepository airportRepository;
+    private final FlightRepository flightRepository;
+
+    private final Map<String, ZoneId> zonesByAirport = new ConcurrentHashMap<>();
+
+    public record NormalizedTimes(Instant departureInstant, Instant arrivalInstant, Duration duration) {
+    }
+
+    public ZoneId zoneOf(String airportCode) {
+        return zonesByAirport.computeIfAbsent(airportCode, code -> airportRepository.findById(code)
+                .map(airport -> airport.getCity().getTimeZone().toZoneId())
+                .orElseThrow(() -> new AirportNotFoundException("Airport with code " + code + " not found")));
+    }
+
+    public void evictAirport(String airportCode) {
+        zonesByAirport.remove(airportCode);
+    }
+
+    public void evictAll() {
+        zonesByAirport.clear();
+    }
+
+    public NormalizedTimes normalize(String departureAirportCode, LocalDateTime departureTime, String arrivalAirportCode, LocalDateTime arrivalTime) {
+        Instant departureInstant = departureTime.atZone(zoneOf(departureAirportCode)).toInstant();
+        Instant arrivalInstant = arrivalTime.atZone(zoneOf(arrivalAirportCode)).toInstant();
+        return new NormalizedTimes(departureInstant, arrivalInstant, Duration.between(departureInstant, arrivalInstant));
+    }
+
+    public void apply(Flight flight) {
+        NormalizedTimes times = normalize(flight.getDepartureAirport().getCode(), flight.getDepartureTime(),
+                flight.getArrivalAirport().getCode(), flight.getArrivalTime());
+        if (times.duration().isNegative()) {
+            throw new InvalidDurationException("Flight duration cannot be negative!");
+        }
+        setTimes(flight, times);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingInstants() {
+        long lastId = 0L;
+        List<Flight> flights;
+        do {
+            flights = flightRepository.findAllByDepartureInstantIsNullAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            for (Flight flight : flights) {
+                setTimes(flight, normalize(flight.getDepartureAirport().getCode(), flight.getDepartureTime(),
+                        flight.getArrivalAirport().getCode(), flight.getArrivalTime()));
+                lastId = flight.getId();
+            }
+            flightRepository.saveAll(flights);
+        } while (flights.size() == BACKFILL_BATCH_SIZE);
+    }
+
+    private static void setTimes(Flight flight, NormalizedTimes times) {
+        flight.setDepartureInstant(times.departureInstant());
+        flight.setArrivalInstant(times.arrivalInstant());
+        flight.setDuration(times.duration());
+    }
+}
@@ -6,10 +6,10 @@ import com.flightbookingsystem.dto.IdentificationDocumentDTO;
 import com.flightbookingsystem.dto.create.CreateIdentificationDocumentDTO;
 import com.flightbookingsystem.dto.update.UpdateIdentificationDocumentDTO;
 import com.flightbookingsystem.exceptions.IdentificationDocumentNotFoundException;
+import com.flightbookingsystem.mappers.IdentificationDocumentMapper;
 import com.flightbookingsystem.services.IdentificationDocumentService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -21,10 +21,10 @@ import java.util.stream.Collectors;
 @Validated
 public class IdentificationDocumentServiceImpl implements IdentificationDocumentService {
     private final IdentificationDocumentRepository identificationDocumentRepository;
-    private final ModelMapper modelMapper;
+    private final IdentificationDocumentMapper identificationDocumentMapper;
 
     private IdentificationDocumentDTO convertToIdentificationDTO(IdentificationDocument identificationDocument) {
-        return modelMapper.map(identificationDocument, IdentificationDocumentDTO.class);
+        return identificationDocumentMapper.toIdentificationDocumentDTO(identificationDocument);
     }
 
     @Override
@@ -36,18 +36,18 @@ public class IdentificationDocumentServiceImpl implements IdentificationDocument
 
     @Override
     public IdentificationDocumentDTO getIdentificationDocument(String identificationNumber) {
-        return modelMapper.map(identificationDocumentRepository.findById(identificationNumber)
-                .orElseThrow(() -> new IdentificationDocumentNotFoundException("IdentificationDocument with number " + identificationNumber + " not found")), IdentificationDocumentDTO.class);
+        return identificationDocumentMapper.toIdentificationDocumentDTO(identificationDocumentRepository.findById(identificationNumber)
+                .orElseThrow(() -> new IdentificationDocumentNotFoundException("IdentificationDocument with number " + identificationNumber + " not found")));
     }
 
     @Override
     public IdentificationDocument create(@Valid CreateIdentificationDocumentDTO createIdentificationDocumentDTO) {
-        return identificationDocumentRepository.save(modelMapper.map(createIdentificationDocumentDTO, IdentificationDocument.class));
+        return identificationDocumentRepository.save(identificationDocumentMapper.toIdentificationDocument(createIdentificationDocumentDTO));
     }
 
     @Override
     public IdentificationDocument updateIdentificationDocument(String identificationNumber, @Valid UpdateIdentificationDocumentDTO updateIdentificationDocumentDTO) {
-        IdentificationDocument identificationDocument = modelMapper.map(updateIdentificationDocumentDTO, IdentificationDocument.class);
+        IdentificationDocument identificationDocument = identificationDocumentMapper.toIdentificationDocument(updateIdentificationDocumentDTO);
         identificationDocument.setIdentificationNumber(identificationNumber);
         return identificationDocumentRepository.save(identificationDocument);
     }
@@ -59,21 +59,21 @@ public class IdentificationDocumentServiceImpl implements IdentificationDocument
 
     @Override
     public IdentificationDocumentDTO getIdentificationDocumentByFirstNameAndLastName(String firstName, String lastName) {
-        return modelMapper.map(identificationDocumentRepository.findByFirstNameAndLastName(firstName, lastName), IdentificationDocumentDTO.class);
+        return identificationDocumentMapper.toIdentificationDocumentDTO(identificationDocumentRepository.findByFirstNameAndLastName(firstName, lastName));
     }
 
     @Override
     public IdentificationDocumentDTO getIdentificationDocumentByPersonalInfoFirstName(String firstName) {
-        return modelMapper.map(identificationDocumentRepository.findByPersonalInfoFirstName(firstName), IdentificationDocumentDTO.class);
+        return identificationDocumentMapper.toIdentificationDocumentDTO(identificationDocumentRepository.findByPersonalInfoFirstName(firstName));
     }
 
     @Override
     public IdentificationDocumentDTO getIdentificationDocumentByPersonalInfoPhoneNumber(String phoneNumber) {
-        return modelMapper.map(identificationDocumentRepository.findByPersonalInfoPhoneNumber(phoneNumber), IdentificationDocumentDTO.class);
+        return identificationDocumentMapper.toIdentificationDocumentDTO(identificationDocumentRepository.findByPersonalInfoPhoneNumber(phoneNumber));
     }
 
     @Override
     public IdentificationDocumentDTO getIdentificationDocumentByPersonalInfoUserUsername(String username) {
-        return modelMapper.map(identificationDocumentRepository.findByPersonalInfoUserUsername(username), IdentificationDocumentDTO.class);
+        return identificationDocumentMapper.toIdentificationDocumentDTO(identificationDocumentRepository.findByPersonalInfoUserUsername(username));
     }
 }
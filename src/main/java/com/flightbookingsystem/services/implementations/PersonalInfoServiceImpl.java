@@ -6,11 +6,11 @@ import com.flightbookingsystem.dto.PersonalInfoDTO;
 import com.flightbookingsystem.dto.create.CreatePersonalInfoDTO;
 import com.flightbookingsystem.dto.update.UpdatePersonalInfoDTO;
 import com.flightbookingsystem.exceptions.PersonalInfoNotFoundException;
+import com.flightbookingsystem.mappers.PersonalInfoMapper;
 import com.flightbookingsystem.services.PersonalInfoService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -22,10 +22,10 @@ import java.util.stream.Collectors;
 @Validated
 public class PersonalInfoServiceImpl implements PersonalInfoService {
     private final PersonalInfoRepository personalInfoRepository;
-    private final ModelMapper modelMapper;
+    private final PersonalInfoMapper personalInfoMapper;
 
     private PersonalInfoDTO convertToPersonalInfoDTO(PersonalInfo personalInfo) {
-        return modelMapper.map(personalInfo, PersonalInfoDTO.class);
+        return personalInfoMapper.toPersonalInfoDTO(personalInfo);
     }
 
     @Override
@@ -37,18 +37,18 @@ public class PersonalInfoServiceImpl implements PersonalInfoService {
 
     @Override
     public PersonalInfoDTO getPersonalInfo(@Min(1) Long id) {
-        return modelMapper.map(personalInfoRepository.findById(id)
-                .orElseThrow(() -> new PersonalInfoNotFoundException("PersonalInfo with id " + id + " not found")), PersonalInfoDTO.class);
+        return personalInfoMapper.toPersonalInfoDTO(personalInfoRepository.findById(id)
+                .orElseThrow(() -> new PersonalInfoNotFoundException("PersonalInfo with id " + id + " not found")));
     }
 
     @Override
     public PersonalInfo create(@Valid CreatePersonalInfoDTO createPersonalInfoDTO) {
-        return personalInfoRepository.save(modelMapper.map(createPersonalInfoDTO, PersonalInfo.class));
+        return personalInfoRepository.save(personalInfoMapper.toPersonalInfo(createPersonalInfoDTO));
     }
 
     @Override
     public PersonalInfo updatePersonalInfo(@Min(1) Long id, @Valid UpdatePersonalInfoDTO updatePersonalInfoDTO) {
-        PersonalInfo personalInfo = modelMapper.map(updatePersonalInfoDTO, PersonalInfo.class);
+        PersonalInfo personalInfo = personalInfoMapper.toPersonalInfo(updatePersonalInfoDTO);
         personalInfo.setId(id);
         return personalInfoRepository.save(personalInfo);
     }
@@ -60,12 +60,12 @@ public class PersonalInfoServiceImpl implements PersonalInfoService {
 
     @Override
     public PersonalInfoDTO getPersonalInfoByPhoneNumber(String phoneNumber) {
-        return modelMapper.map(personalInfoRepository.findByPhoneNumber(phoneNumber), PersonalInfoDTO.class);
+        return personalInfoMapper.toPersonalInfoDTO(personalInfoRepository.findByPhoneNumber(phoneNumber));
     }
 
     @Override
     public PersonalInfoDTO getPersonalInfoByUserUsername(String username) {
-        return modelMapper.map(personalInfoRepository.findByUserUsername(username), PersonalInfoDTO.class);
+        return personalInfoMapper.toPersonalInfoDTO(personalInfoRepository.findByUserUsername(username));
     }
 
     @Override
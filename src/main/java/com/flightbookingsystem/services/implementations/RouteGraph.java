@@ -0,0 +1,147 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory, time-expanded view of all scheduled departures, indexed by departure airport
+ * and by route. Departure and arrival times are kept as UTC instants so connections can be
+ * compared across time zones. The graph is built once all singletons exist, before the web server starts
+ * accepting searches and bookings.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteGraph implements SmartInitializingSingleton {
+    private static final Comparator<FlightLeg> BY_DEPARTURE = Comparator
+            .comparing(FlightLeg::departureInstant)
+            .thenComparing(FlightLeg::flightId);
+
+    private final FlightRepository flightRepository;
+    private final FlightTimes flightTimes;
+
+    private volatile Graph graph = new Graph();
+
+    public record FlightLeg(Long flightId,
+                            String departureAirportCode,
+                            String arrivalAirportCode,
+                            Instant departureInstant,
+                            Instant arrivalInstant,
+                            long startingPriceMinor) {
+    }
+
+    private static final class Graph {
+        private final Map<Long, FlightLeg> legsById = new ConcurrentHashMap<>();
+        private final Map<String, NavigableSet<FlightLeg>> departuresByAirport = new ConcurrentHashMap<>();
+        private final Map<String, NavigableSet<FlightLeg>> departuresByRoute = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Rebuilds the graph from the flight table into fresh maps and swaps them in, so readers never see a half-built
+     * graph. Updates wait for the rebuild instead of landing in the maps that are about to be replaced.
+     */
+    public synchronized void load() {
+        Graph loaded = new Graph();
+        flightRepository.findAll().forEach(flight -> addFlight(loaded, flight));
+        graph = loaded;
+    }
+
+    public synchronized void addFlight(Flight flight) {
+        addFlight(graph, flight);
+    }
+
+    private void addFlight(Graph graph, Flight flight) {
+        removeFlight(graph, flight.getId());
+        if (flight.getFlightStatus() == FlightStatus.CANCELLED) {
+            return;
+        }
+
+        String departureAirportCode = flight.getDepartureAirport().getCode();
+        String arrivalAirportCode = flight.getArrivalAirport().getCode();
+        Instant departureInstant = flight.getDepartureInstant();
+        Instant arrivalInstant = flight.getArrivalInstant();
+        if (departureInstant == null || arrivalInstant == null) {
+            FlightTimes.NormalizedTimes times = flightTimes.normalize(departureAirportCode, flight.getDepartureTime(),
+                    arrivalAirportCode, flight.getArrivalTime());
+            departureInstant = times.departureInstant();
+            arrivalInstant = times.arrivalInstant();
+        }
+
+        FlightLeg leg = new FlightLeg(flight.getId(),
+                departureAirportCode,
+                arrivalAirportCode,
+                departureInstant,
+                arrivalInstant,
+                flight.getStartingPrice() == null ? 0 : FarePricing.toMinor(flight.getStartingPrice()));
+
+        graph.legsById.put(leg.flightId(), leg);
+        graph.departuresByAirport.computeIfAbsent(departureAirportCode, code -> new ConcurrentSkipListSet<>(BY_DEPARTURE)).add(leg);
+        graph.departuresByRoute.computeIfAbsent(routeKey(departureAirportCode, arrivalAirportCode), key -> new ConcurrentSkipListSet<>(BY_DEPARTURE)).add(leg);
+    }
+
+    public synchronized void removeFlight(Long flightId) {
+        removeFlight(graph, flightId);
+    }
+
+    private static void removeFlight(Graph graph, Long flightId) {
+        if (flightId == null) {
+            return;
+        }
+        FlightLeg leg = graph.legsById.remove(flightId);
+        if (leg == null) {
+            return;
+        }
+        graph.departuresByAirport.getOrDefault(leg.departureAirportCode(), Collections.emptyNavigableSet()).remove(leg);
+        graph.departuresByRoute.getOrDefault(routeKey(leg.departureAirportCode(), leg.arrivalAirportCode()), Collections.emptyNavigableSet()).remove(leg);
+    }
+
+    public FlightLeg getLeg(Long flightId) {
+        return flightId == null ? null : graph.legsById.get(flightId);
+    }
+
+    public NavigableSet<FlightLeg> getDepartures(String airportCode, Instant from, Instant to) {
+        return window(graph.departuresByAirport.get(airportCode), from, to);
+    }
+
+    public NavigableSet<FlightLeg> getDepartures(String departureAirportCode, String arrivalAirportCode, Instant from, Instant to) {
+        return window(graph.departuresByRoute.get(routeKey(departureAirportCode, arrivalAirportCode)), from, to);
+    }
+
+    public NavigableSet<FlightLeg> getDeparturesOnLocalDate(String airportCode, LocalDate date) {
+        if (!graph.departuresByAirport.containsKey(airportCode)) {
+            return Collections.emptyNavigableSet();
+        }
+        ZoneId zone = flightTimes.zoneOf(airportCode);
+        return getDepartures(airportCode, date.atStartOfDay(zone).toInstant(), date.plusDays(1).atStartOfDay(zone).toInstant());
+    }
+
+    private NavigableSet<FlightLeg> window(NavigableSet<FlightLeg> departures, Instant from, Instant to) {
+        if (departures == null) {
+            return Collections.emptyNavigableSet();
+        }
+        return departures.subSet(new FlightLeg(Long.MIN_VALUE, null, null, from, null, 0), true,
+                new FlightLeg(Long.MIN_VALUE, null, null, to, null, 0), false);
+    }
+
+    private static String routeKey(String departureAirportCode, String arrivalAirportCode) {
+        return departureAirportCode + "-" + arrivalAirportCode;
+    }
+}
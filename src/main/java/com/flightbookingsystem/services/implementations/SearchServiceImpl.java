@@ -0,0 +1,29 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.dto.TypeaheadEntryDTO;
+import com.flightbookingsystem.services.SearchService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class SearchServiceImpl implements SearchService {
+    private final TypeaheadIndex typeaheadIndex;
+
+    @Override
+    public List<TypeaheadEntryDTO> searchAirports(String nameOrCode) {
+        return typeaheadIndex.searchAirports(nameOrCode);
+    }
+
+    @Override
+    public List<TypeaheadEntryDTO> searchCities(String nameOrCode) {
+        return typeaheadIndex.searchCities(nameOrCode);
+    }
+
+    @Override
+    public List<TypeaheadEntryDTO> searchCountries(String nameOrCode) {
+        return typeaheadIndex.searchCountries(nameOrCode);
+    }
+}
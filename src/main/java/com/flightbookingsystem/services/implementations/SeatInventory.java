@@ -0,0 +1,128 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps one bit per seat (rows 1-39, seats A-F) for every flight. Seats are claimed and released
+ * with compare-and-set on the bitmap words, so checking or holding a seat never takes a database lock.
+ * The index is built once all singletons exist, before the web server starts accepting bookings; the unique
+ * {@code (flight_id, seat)} constraint on {@code ticket} remains the backstop if two instances ever disagree.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatInventory implements SmartInitializingSingleton {
+    public static final int ROWS = 39;
+    public static final int SEATS_PER_ROW = 6;
+    public static final int SEAT_COUNT = ROWS * SEATS_PER_ROW;
+
+    private static final Pattern SEAT_PATTERN = Pattern.compile("([1-9]|[1-3][0-9])[A-F]");
+    private static final int WORDS = (SEAT_COUNT + Long.SIZE - 1) / Long.SIZE;
+
+    private final TicketRepository ticketRepository;
+
+    private volatile Map<Long, AtomicLongArray> seatMaps = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Rebuilds the index from the ticket table into a fresh map and swaps it in, so readers never see a half-empty
+     * index. Holds taken after the query started are lost, so only call this while no bookings are in flight.
+     */
+    public void load() {
+        Map<Long, AtomicLongArray> loaded = new ConcurrentHashMap<>();
+        for (Object[] bookedSeat : ticketRepository.findAllBookedSeats()) {
+            tryReserve(loaded, (Long) bookedSeat[0], (String) bookedSeat[1]);
+        }
+        seatMaps = loaded;
+    }
+
+    public boolean tryReserve(Long flightId, String seat) {
+        return tryReserve(seatMaps, flightId, seat);
+    }
+
+    private static boolean tryReserve(Map<Long, AtomicLongArray> seatMaps, Long flightId, String seat) {
+        int index = toIndex(seat);
+        AtomicLongArray seatMap = seatMaps.computeIfAbsent(flightId, id -> new AtomicLongArray(WORDS));
+        int word = index / Long.SIZE;
+        long mask = 1L << (index % Long.SIZE);
+
+        long current;
+        do {
+            current = seatMap.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!seatMap.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    public void release(Long flightId, String seat) {
+        int index = toIndex(seat);
+        AtomicLongArray seatMap = seatMaps.get(flightId);
+        if (seatMap == null) {
+            return;
+        }
+        int word = index / Long.SIZE;
+        long mask = 1L << (index % Long.SIZE);
+
+        long current;
+        do {
+            current = seatMap.get(word);
+        } while (!seatMap.compareAndSet(word, current, current & ~mask));
+    }
+
+    public boolean isAvailable(Long flightId, String seat) {
+        int index = toIndex(seat);
+        AtomicLongArray seatMap = seatMaps.get(flightId);
+        return seatMap == null || (seatMap.get(index / Long.SIZE) & (1L << (index % Long.SIZE))) == 0;
+    }
+
+    public int getAvailableSeatCount(Long flightId) {
+        AtomicLongArray seatMap = seatMaps.get(flightId);
+        if (seatMap == null) {
+            return SEAT_COUNT;
+        }
+        int taken = 0;
+        for (int word = 0; word < WORDS; word++) {
+            taken += Long.bitCount(seatMap.get(word));
+        }
+        return SEAT_COUNT - taken;
+    }
+
+    public List<String> getAvailableSeats(Long flightId) {
+        AtomicLongArray seatMap = seatMaps.get(flightId);
+        List<String> seats = new ArrayList<>();
+        for (int index = 0; index < SEAT_COUNT; index++) {
+            if (seatMap == null || (seatMap.get(index / Long.SIZE) & (1L << (index % Long.SIZE))) == 0) {
+                seats.add(toSeat(index));
+            }
+        }
+        return seats;
+    }
+
+    private static int toIndex(String seat) {
+        if (seat == null || !SEAT_PATTERN.matcher(seat).matches()) {
+            throw new IllegalArgumentException("Seat must be in format: XX[A-F] or X[A-F]");
+        }
+        int row = Integer.parseInt(seat.substring(0, seat.length() - 1));
+        int column = seat.charAt(seat.length() - 1) - 'A';
+        return (row - 1) * SEATS_PER_ROW + column;
+    }
+
+    private static String toSeat(int index) {
+        return (index / SEATS_PER_ROW + 1) + String.valueOf((char) ('A' + index % SEATS_PER_ROW));
+    }
+}
@@ -0,0 +1,117 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flightbookingsystem.data.entity.OutboxEvent;
+import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.data.repository.OutboxEventRepository;
+import com.flightbookingsystem.services.ConfirmationSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transactional outbox for booking confirmations. {@link #enqueue} must run inside the transaction that saves the
+ * ticket, so a confirmation exists exactly when the booking commits. A scheduled dispatcher drains pending events in
+ * batches, off the request path; rows are claimed with SKIP LOCKED so several instances can drain side by side.
+ * A failed delivery is retried with exponential backoff; after {@value #MAX_ATTEMPTS} attempts the event is marked
+ * failed, counted in {@code outbox.events.failed}, and left in the table for inspection.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketConfirmationOutbox {
+    public static final String TICKET_CONFIRMED = "TICKET_CONFIRMED";
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ConfirmationSink confirmationSink;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public void enqueue(Ticket ticket) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("bookingReference", ticket.getBookingReference());
+        payload.put("username", ticket.getUser() == null ? null : ticket.getUser().getUsername());
+        payload.put("flightId", ticket.getFlight() == null ? null : ticket.getFlight().getId());
+        payload.put("seat", ticket.getSeat());
+        payload.put("travelClass", ticket.getTravelClass());
+        payload.put("luggageType", ticket.getLuggageType());
+
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateId(ticket.getBookingReference());
+        event.setEventType(TICKET_CONFIRMED);
+        event.setPayload(toJson(payload));
+        event.setCreatedAt(Instant.now());
+        event.setNextAttemptAt(event.getCreatedAt());
+        outboxEventRepository.save(event);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        Integer dispatched;
+        do {
+            dispatched = transactionTemplate.execute(status -> dispatchBatch());
+        } while (dispatched != null && dispatched == BATCH_SIZE);
+    }
+
+    private int dispatchBatch() {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = outboxEventRepository.findDueForUpdate(MAX_ATTEMPTS, now, PageRequest.of(0, BATCH_SIZE));
+        for (OutboxEvent event : events) {
+            try {
+                confirmationSink.deliver(event.getAggregateId(), objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE));
+                event.setProcessedAt(Instant.now());
+                event.setNextAttemptAt(null);
+                event.setLastError(null);
+            } catch (IOException | RuntimeException e) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError(truncate(String.valueOf(e.getMessage())));
+                if (event.getAttempts() >= MAX_ATTEMPTS) {
+                    event.setFailedAt(now);
+                    event.setNextAttemptAt(null);
+                    meterRegistry.counter("outbox.events.failed", "type", event.getEventType()).increment();
+                } else {
+                    event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+                }
+            }
+        }
+        return events.size();
+    }
+
+    private static Duration backoff(int attempts) {
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
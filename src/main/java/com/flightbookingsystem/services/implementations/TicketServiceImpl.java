@@ -1,61 +1,229 @@
 package com.flightbookingsystem.services.implementations;
 
+import com.flightbookingsystem.data.entity.Flight;
 import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.data.entity.User;
 import com.flightbookingsystem.data.enums.FlightStatus;
 import com.flightbookingsystem.data.repository.TicketRepository;
+import com.flightbookingsystem.dto.BatchItemResultDTO;
+import com.flightbookingsystem.dto.BatchResultDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.TicketDTO;
+import com.flightbookingsystem.dto.TicketSummaryDTO;
 import com.flightbookingsystem.dto.create.CreateTicketDTO;
 import com.flightbookingsystem.dto.update.UpdateTicketDTO;
+import com.flightbookingsystem.exceptions.FlightNotOpenForBookingException;
+import com.flightbookingsystem.exceptions.SeatAlreadyTakenException;
 import com.flightbookingsystem.exceptions.TicketNotFoundException;
+import com.flightbookingsystem.mappers.TicketMapper;
 import com.flightbookingsystem.services.TicketService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 @Validated
 public class TicketServiceImpl implements TicketService {
+    private static final String BOOKING_REFERENCE_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    private static final int BOOKING_REFERENCE_LENGTH = 6;
+    private static final SecureRandom BOOKING_REFERENCE_RANDOM = new SecureRandom();
+
     private TicketRepository ticketRepository;
-    private ModelMapper modelMapper;
+    private TicketMapper ticketMapper;
+    private SeatInventory seatInventory;
+    private TicketConfirmationOutbox ticketConfirmationOutbox;
+    private TransactionTemplate transactionTemplate;
+    private BookingSummaryProjection bookingSummaryProjection;
+    private FarePricing farePricing;
+    private EntityManager entityManager;
+    private BatchSupport batchSupport;
 
     private TicketDTO convertToTicketDTO(Ticket ticket) {
-        return modelMapper.map(ticket, TicketDTO.class);
+        return ticketMapper.toTicketDTO(ticket);
     }
 
     @Override
-    public List<TicketDTO> getTickets() {
-        return ticketRepository.findAll().stream()
-                .map(this::convertToTicketDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<TicketSummaryDTO> getTickets(String after, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<TicketSummaryDTO> ticketPage = ticketRepository.findTicketSummariesAfter(after == null ? "" : after, PageRequest.of(0, limit));
+        return CursorPageDTO.of(ticketPage, limit, TicketSummaryDTO::getBookingReference, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTickets(Consumer<TicketSummaryDTO> consumer) {
+        try (Stream<TicketSummaryDTO> tickets = ticketRepository.streamAllTicketSummaries()) {
+            tickets.forEach(consumer);
+        }
     }
 
     @Override
     public TicketDTO getTicket(String bookingReference) {
-        return modelMapper.map(ticketRepository.findById(bookingReference)
-                .orElseThrow(() -> new TicketNotFoundException("Ticket with bookingReference " + bookingReference + " not found")), TicketDTO.class);
+        return ticketMapper.toTicketDTO(ticketRepository.findById(bookingReference)
+                .orElseThrow(() -> new TicketNotFoundException("Ticket with bookingReference " + bookingReference + " not found")));
     }
 
+    /**
+     * Books one ticket for the caller under a freshly generated booking reference.
+     */
     @Override
-    public Ticket create(@Valid CreateTicketDTO createTicketDTO) {
-        return ticketRepository.save(modelMapper.map(createTicketDTO, Ticket.class));
+    public Ticket create(@Valid CreateTicketDTO createTicketDTO, String username) {
+        assignBookingReferences(List.of(createTicketDTO));
+        Ticket ticket = ticketMapper.toTicket(createTicketDTO);
+        Long flightId = ticket.getFlight().getId();
+        ticket.setPrice(farePricing.quoteAmount(flightId, ticket.getTravelClass(), ticket.getLuggageType(), Instant.now()));
+        if (ticket.getPrice() == null) {
+            throw new FlightNotOpenForBookingException("Flight " + flightId + " is not open for booking");
+        }
+        reserveSeat(ticket);
+        Ticket savedTicket;
+        try {
+            savedTicket = transactionTemplate.execute(status -> {
+                if (username != null) {
+                    ticket.setUser(entityManager.getReference(User.class, username));
+                }
+                Ticket created = ticketRepository.save(ticket);
+                ticketConfirmationOutbox.enqueue(created);
+                return created;
+            });
+        } catch (RuntimeException e) {
+            releaseSeat(ticket);
+            throw e;
+        }
+        bookingSummaryProjection.ticketsChanged(usernamesOf(savedTicket));
+        return savedTicket;
     }
 
+    /**
+     * Books a group of tickets for one user: every item is validated and every seat reserved before anything is
+     * written, and the tickets are inserted in a single batched transaction, so either all of them are booked or none.
+     */
+    @Override
+    public BatchResultDTO createTickets(List<CreateTicketDTO> createTicketDTOs, String username) {
+        BatchResultDTO result = BatchResultDTO.of(createTicketDTOs.size());
+        assignBookingReferences(createTicketDTOs);
+
+        Instant now = Instant.now();
+        List<Ticket> tickets = new ArrayList<>(createTicketDTOs.size());
+        Set<String> requestedSeats = new HashSet<>();
+        for (int index = 0; index < createTicketDTOs.size(); index++) {
+            String violations = batchSupport.violations(createTicketDTOs.get(index));
+            if (violations != null) {
+                result.reject(index, BatchItemResultDTO.Status.INVALID, violations);
+                tickets.add(null);
+                continue;
+            }
+            Ticket ticket = ticketMapper.toTicket(createTicketDTOs.get(index));
+            Long flightId = ticket.getFlight().getId();
+            ticket.setPrice(farePricing.quoteAmount(flightId, ticket.getTravelClass(), ticket.getLuggageType(), now));
+            if (ticket.getPrice() == null) {
+                result.reject(index, BatchItemResultDTO.Status.INVALID, "Flight " + flightId + " is not open for booking");
+            } else if (hasSeat(ticket) && !requestedSeats.add(flightId + ":" + ticket.getSeat())) {
+                result.reject(index, BatchItemResultDTO.Status.CONFLICT, "Seat " + ticket.getSeat() + " on flight " + flightId + " is requested more than once");
+            }
+            tickets.add(ticket);
+        }
+        if (result.hasRejections()) {
+            return result;
+        }
+
+        List<Ticket> reserved = new ArrayList<>(tickets.size());
+        for (int index = 0; index < tickets.size(); index++) {
+            try {
+                reserveSeat(tickets.get(index));
+                reserved.add(tickets.get(index));
+            } catch (SeatAlreadyTakenException e) {
+                result.reject(index, BatchItemResultDTO.Status.CONFLICT, e.getMessage());
+                reserved.forEach(this::releaseSeat);
+                return result;
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = entityManager.getReference(User.class, username);
+                for (Ticket ticket : tickets) {
+                    ticket.setUser(user);
+                    ticket.setFlight(entityManager.getReference(Flight.class, ticket.getFlight().getId()));
+                    entityManager.persist(ticket);
+                    ticketConfirmationOutbox.enqueue(ticket);
+                }
+                entityManager.flush();
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            reserved.forEach(this::releaseSeat);
+            batchSupport.writeFailed(result, e);
+            return result;
+        } catch (RuntimeException e) {
+            reserved.forEach(this::releaseSeat);
+            throw e;
+        }
+
+        for (int index = 0; index < tickets.size(); index++) {
+            result.created(index, tickets.get(index).getBookingReference());
+        }
+        result.setCommitted(true);
+        bookingSummaryProjection.ticketsChanged(List.of(username));
+        return result;
+    }
+
+    /**
+     * Moves a ticket to another seat on its flight. The new seat is held before the write and the old one is only
+     * released once the moved ticket is saved, so a failed save leaves the original booking and its hold intact.
+     */
     @Override
     public Ticket updateTicket(String bookingReference, @Valid UpdateTicketDTO updateTicketDTO) {
-        Ticket ticket = modelMapper.map(updateTicketDTO, Ticket.class);
-        ticket.setBookingReference(bookingReference);
-        return ticketRepository.save(ticket);
+        Ticket ticket = ticketRepository.findById(bookingReference)
+                .orElseThrow(() -> new TicketNotFoundException("Ticket with bookingReference " + bookingReference + " not found"));
+        String previousSeat = ticket.getSeat();
+        if (Objects.equals(previousSeat, updateTicketDTO.getSeat())) {
+            return ticket;
+        }
+
+        ticket.setSeat(updateTicketDTO.getSeat());
+        reserveSeat(ticket);
+        Ticket savedTicket;
+        try {
+            savedTicket = ticketRepository.save(ticket);
+        } catch (RuntimeException e) {
+            releaseSeat(ticket);
+            ticket.setSeat(previousSeat);
+            throw e;
+        }
+        if (previousSeat != null) {
+            seatInventory.release(ticket.getFlight().getId(), previousSeat);
+        }
+        bookingSummaryProjection.ticketsChanged(usernamesOf(savedTicket));
+        return savedTicket;
     }
 
     @Override
     public void deleteTicket(String bookingReference) {
-        ticketRepository.deleteById(bookingReference);
+        ticketRepository.findById(bookingReference).ifPresent(ticket -> {
+            ticketRepository.delete(ticket);
+            releaseSeat(ticket);
+            bookingSummaryProjection.ticketsChanged(usernamesOf(ticket));
+        });
     }
 
     @Override
@@ -108,4 +276,62 @@ public class TicketServiceImpl implements TicketService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Set<Long> getBookedFlightIds(String username) {
+        return Set.copyOf(ticketRepository.findBookedFlightIdsByUsername(username));
+    }
+
+    private void assignBookingReferences(List<CreateTicketDTO> createTicketDTOs) {
+        Set<String> assigned = new HashSet<>();
+        List<CreateTicketDTO> pending = createTicketDTOs;
+        while (!pending.isEmpty()) {
+            for (CreateTicketDTO createTicketDTO : pending) {
+                String bookingReference;
+                do {
+                    bookingReference = newBookingReference();
+                } while (!assigned.add(bookingReference));
+                createTicketDTO.setBookingReference(bookingReference);
+            }
+            Set<String> taken = ticketRepository.findAllById(assigned).stream()
+                    .map(Ticket::getBookingReference)
+                    .collect(Collectors.toSet());
+            pending = pending.stream()
+                    .filter(createTicketDTO -> taken.contains(createTicketDTO.getBookingReference()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String newBookingReference() {
+        char[] bookingReference = new char[BOOKING_REFERENCE_LENGTH];
+        for (int i = 0; i < bookingReference.length; i++) {
+            bookingReference[i] = BOOKING_REFERENCE_ALPHABET.charAt(BOOKING_REFERENCE_RANDOM.nextInt(BOOKING_REFERENCE_ALPHABET.length()));
+        }
+        return new String(bookingReference);
+    }
+
+    private void reserveSeat(Ticket ticket) {
+        if (!hasSeat(ticket)) {
+            return;
+        }
+        if (!seatInventory.tryReserve(ticket.getFlight().getId(), ticket.getSeat())) {
+            throw new SeatAlreadyTakenException("Seat " + ticket.getSeat() + " on flight " + ticket.getFlight().getId() + " is already taken");
+        }
+    }
+
+    private void releaseSeat(Ticket ticket) {
+        if (hasSeat(ticket)) {
+            seatInventory.release(ticket.getFlight().getId(), ticket.getSeat());
+        }
+    }
+
+    private boolean hasSeat(Ticket ticket) {
+        return ticket.getSeat() != null && ticket.getFlight() != null && ticket.getFlight().getId() != null;
+    }
+
+    private List<String> usernamesOf(Ticket... tickets) {
+        return Stream.of(tickets)
+                .filter(ticket -> ticket != null && ticket.getUser() != null)
+                .map(ticket -> ticket.getUser().getUsername())
+                .collect(Collectors.toList());
+    }
 }
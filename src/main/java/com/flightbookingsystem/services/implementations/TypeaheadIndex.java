@@ -0,0 +1,172 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.data.entity.Country;
+import com.flightbookingsystem.data.repository.AirportRepository;
+import com.flightbookingsystem.data.repository.CityRepository;
+import com.flightbookingsystem.data.repository.CountryRepository;
+import com.flightbookingsystem.dto.TypeaheadEntryDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory prefix index over airport, city and country codes and names. Every code, full name
+ * and word of a name is indexed, so typeahead lookups are a sorted-map range scan and never reach the database.
+ * The index is filled once all singletons exist, before the web server starts accepting requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class TypeaheadIndex implements SmartInitializingSingleton {
+    public static final int MAX_RESULTS = 10;
+
+    private final AirportRepository airportRepository;
+    private final CityRepository cityRepository;
+    private final CountryRepository countryRepository;
+
+    private final PrefixIndex airports = new PrefixIndex();
+    private final PrefixIndex cities = new PrefixIndex();
+    private final PrefixIndex countries = new PrefixIndex();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public void load() {
+        airportRepository.findAll().forEach(this::putAirport);
+        cityRepository.findAll().forEach(this::putCity);
+        countryRepository.findAll().forEach(this::putCountry);
+    }
+
+    public void putAirport(Airport airport) {
+        airports.put(new TypeaheadEntryDTO(airport.getCode(), airport.getCode(), airport.getName()));
+    }
+
+    public void removeAirport(String code) {
+        airports.remove(code);
+    }
+
+    public void putCity(City city) {
+        cities.put(new TypeaheadEntryDTO(city.getCode(), city.getCode(), city.getName()));
+    }
+
+    public void removeCity(String code) {
+        cities.remove(code);
+    }
+
+    public void putCountry(Country country) {
+        String code = country.getCode() == null ? null : country.getCode().name();
+        countries.put(new TypeaheadEntryDTO(String.valueOf(country.getId()), code, country.getName()));
+    }
+
+    public void removeCountry(Long id) {
+        countries.remove(String.valueOf(id));
+    }
+
+    public List<TypeaheadEntryDTO> searchAirports(String query) {
+        return airports.search(query);
+    }
+
+    public List<TypeaheadEntryDTO> searchCities(String query) {
+        return cities.search(query);
+    }
+
+    public List<TypeaheadEntryDTO> searchCountries(String query) {
+        return countries.search(query);
+    }
+
+    private static final class PrefixIndex {
+        private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+        private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<String, Set<String>> terms = new ConcurrentSkipListMap<>();
+
+        private record Entry(TypeaheadEntryDTO result, String code, String name, Set<String> terms) {
+        }
+
+        synchronized void put(TypeaheadEntryDTO result) {
+            remove(result.getId());
+            String code = normalize(result.getCode());
+            String name = normalize(result.getName());
+
+            Set<String> entryTerms = new HashSet<>();
+            entryTerms.add(code);
+            entryTerms.add(name);
+            for (String word : WORD_SEPARATORS.split(name)) {
+                entryTerms.add(word);
+            }
+            entryTerms.remove("");
+
+            entries.put(result.getId(), new Entry(result, code, name, entryTerms));
+            entryTerms.forEach(term -> terms.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(result.getId()));
+        }
+
+        synchronized void remove(String id) {
+            Entry entry = entries.remove(id);
+            if (entry == null) {
+                return;
+            }
+            entry.terms().forEach(term -> terms.computeIfPresent(term, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+
+        List<TypeaheadEntryDTO> search(String query) {
+            String prefix = normalize(query);
+            if (prefix.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            Set<String> ids = new HashSet<>();
+            terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values().forEach(ids::addAll);
+
+            return ids.stream()
+                    .map(entries::get)
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparingInt((Entry entry) -> rank(entry, prefix))
+                            .thenComparing(Entry::name))
+                    .limit(MAX_RESULTS)
+                    .map(Entry::result)
+                    .collect(Collectors.toList());
+        }
+
+        private static int rank(Entry entry, String prefix) {
+            if (entry.code().equals(prefix)) {
+                return 0;
+            }
+            if (entry.code().startsWith(prefix)) {
+                return 1;
+            }
+            if (entry.name().startsWith(prefix)) {
+                return 2;
+            }
+            return 3;
+        }
+
+        private static String normalize(String value) {
+            if (value == null) {
+                return "";
+            }
+            String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+            return withoutDiacritics.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
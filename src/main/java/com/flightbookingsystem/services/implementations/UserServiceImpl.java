@@ -2,15 +2,19 @@ package com.flightbookingsystem.services.implementations;
 
 import com.flightbookingsystem.data.entity.User;
 import com.flightbookingsystem.data.repository.UserRepository;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.UserDTO;
 import com.flightbookingsystem.dto.create.CreateUserDTO;
 import com.flightbookingsystem.dto.update.UpdateUserDTO;
 import com.flightbookingsystem.exceptions.UserNotFoundException;
+import com.flightbookingsystem.mappers.UserMapper;
 import com.flightbookingsystem.services.UserService;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,10 +24,12 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final BookingSummaryProjection bookingSummaryProjection;
 
     private UserDTO convertToUserDTO(User user) {
-        return modelMapper.map(user, UserDTO.class);
+        return userMapper.toUserDTO(user);
     }
 
     @Override
@@ -34,34 +40,50 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserDTO> getUsers() {
-        return userRepository.findAll().stream()
-                .map(this::convertToUserDTO)
-                .collect(Collectors.toList());
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User with username " + userDetails.getUsername() + " not found"));
+        user.setPassword(newPassword);
+        return userRepository.save(user);
+    }
+
+    @Override
+    public CursorPageDTO<UserDTO> getUsers(String after, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<User> userPage = userRepository.findAllByUsernameGreaterThan(after == null ? "" : after, PageRequest.of(0, limit, Sort.by("username")));
+        return CursorPageDTO.of(userPage, limit, User::getUsername, this::convertToUserDTO);
     }
 
     @Override
     public UserDTO getUser(String username) {
-        return modelMapper.map(userRepository.findById(username)
-                .orElseThrow(() -> new UserNotFoundException("User with username " + username + " not found")), UserDTO.class);
+        return userMapper.toUserDTO(userRepository.findById(username)
+                .orElseThrow(() -> new UserNotFoundException("User with username " + username + " not found")));
     }
 
     @Override
     public User create(CreateUserDTO createUserDTO) {
-        return userRepository.save(modelMapper.map(createUserDTO, User.class));
+        User user = userMapper.toUser(createUserDTO);
+        user.setPassword(encodePassword(user.getPassword()));
+        return userRepository.save(user);
 
     }
 
     @Override
     public User updateUser(String username, UpdateUserDTO updateUserDTO) {
-        User user = modelMapper.map(updateUserDTO, User.class);
+        User user = userMapper.toUser(updateUserDTO);
         user.setUsername(username);
+        user.setPassword(encodePassword(user.getPassword()));
         return userRepository.save(user);
     }
 
+    private String encodePassword(String rawPassword) {
+        return rawPassword == null ? null : passwordEncoder.encode(rawPassword);
+    }
+
     @Override
     public void deleteUser(String username) {
         userRepository.deleteById(username);
+        bookingSummaryProjection.userDeleted(username);
     }
 
     @Override
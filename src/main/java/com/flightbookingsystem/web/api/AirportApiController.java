@@ -2,27 +2,24 @@ package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.data.entity.Airport;
 import com.flightbookingsystem.dto.AirportDTO;
-import com.flightbookingsystem.dto.create.CreateAirportDTO;
-import com.flightbookingsystem.dto.update.UpdateAirportDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
+import com.flightbookingsystem.mappers.AirportMapper;
 import com.flightbookingsystem.services.AirportService;
 import com.flightbookingsystem.web.view.model.CreateAirportViewModel;
 import com.flightbookingsystem.web.view.model.UpdateAirportViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @AllArgsConstructor
 @RequestMapping("/airports")
 public class AirportApiController {
     private final AirportService airportService;
-    private final ModelMapper modelMapper;
+    private final AirportMapper airportMapper;
 
     @GetMapping
-    public List<AirportDTO> getAirports() {
-        return airportService.getAirports();
+    public CursorPageDTO<AirportDTO> getAirports(@RequestParam(value = "after", required = false) String after, @RequestParam(value = "size", defaultValue = "50") int size) {
+        return airportService.getAirports(after, size);
     }
 
     @GetMapping("/{code}")
@@ -32,12 +29,12 @@ public class AirportApiController {
 
     @PostMapping
     public Airport createAirport(@RequestBody CreateAirportViewModel airport) {
-        return airportService.create(modelMapper.map(airport, CreateAirportDTO.class));
+        return airportService.create(airportMapper.toCreateAirportDTO(airport));
     }
 
     @PutMapping("/{code}")
     public Airport updateAirport(@PathVariable("code") String code, @RequestBody UpdateAirportViewModel airport) {
-        return airportService.updateAirport(code, modelMapper.map(airport, UpdateAirportDTO.class));
+        return airportService.updateAirport(code, airportMapper.toUpdateAirportDTO(airport));
     }
 
     @DeleteMapping("/{code}")
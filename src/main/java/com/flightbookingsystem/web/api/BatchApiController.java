@@ -0,0 +1,69 @@
+package com.flightbookingsystem.web.api;
+
+import com.flightbookingsystem.dto.BatchItemResultDTO;
+import com.flightbookingsystem.dto.BatchResultDTO;
+import com.flightbookingsystem.mappers.FlightMapper;
+import com.flightbookingsystem.mappers.TicketMapper;
+import com.flightbookingsystem.services.FlightService;
+import com.flightbookingsystem.services.TicketService;
+import com.flightbookingsystem.web.view.model.CreateFlightViewModel;
+import com.flightbookingsystem.web.view.model.CreateTicketViewModel;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Creates many tickets or flights in one request and one transaction. The response lists a result per item, in
+ * request order; if any item is rejected nothing is written and the remaining items are reported as not written.
+ * A write rolled back by the database is reported on every item, as a conflict or as a retryable failure.
+ */
+@RestController
+@AllArgsConstructor
+public class BatchApiController {
+    private final TicketService ticketService;
+    private final FlightService flightService;
+    private final TicketMapper ticketMapper;
+    private final FlightMapper flightMapper;
+
+    @PostMapping("/tickets:batch")
+    public ResponseEntity<BatchResultDTO> createTickets(@RequestBody List<CreateTicketViewModel> tickets, Principal principal) {
+        checkSize(tickets);
+        return toResponse(ticketService.createTickets(tickets.stream().map(ticketMapper::toCreateTicketDTO).toList(), principal.getName()));
+    }
+
+    @PostMapping("/flights:batch")
+    public ResponseEntity<BatchResultDTO> createFlights(@RequestBody List<CreateFlightViewModel> flights) {
+        checkSize(flights);
+        return toResponse(flightService.createFlights(flights.stream().map(flightMapper::toCreateFlightDTO).toList()));
+    }
+
+    private static void checkSize(List<?> items) {
+        if (items.isEmpty() || items.size() > BatchResultDTO.MAX_ITEMS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A batch must contain between 1 and " + BatchResultDTO.MAX_ITEMS + " items");
+        }
+    }
+
+    private static ResponseEntity<BatchResultDTO> toResponse(BatchResultDTO result) {
+        if (result.isCommitted()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        }
+        if (hasStatus(result, BatchItemResultDTO.Status.INVALID)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+        }
+        if (hasStatus(result, BatchItemResultDTO.Status.FAILED)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+    }
+
+    private static boolean hasStatus(BatchResultDTO result, BatchItemResultDTO.Status status) {
+        return result.getItems().stream().anyMatch(item -> item.getStatus() == status);
+    }
+}
@@ -2,27 +2,24 @@ package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.data.entity.City;
 import com.flightbookingsystem.dto.CityDTO;
-import com.flightbookingsystem.dto.create.CreateCityDTO;
-import com.flightbookingsystem.dto.update.UpdateCityDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
+import com.flightbookingsystem.mappers.CityMapper;
 import com.flightbookingsystem.services.CityService;
 import com.flightbookingsystem.web.view.model.CreateCityViewModel;
 import com.flightbookingsystem.web.view.model.UpdateCityViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @AllArgsConstructor
 @RequestMapping("/cities")
 public class CityApiController {
     private final CityService cityService;
-    private final ModelMapper modelMapper;
+    private final CityMapper cityMapper;
 
     @GetMapping
-    public List<CityDTO> getCities() {
-        return cityService.getCities();
+    public CursorPageDTO<CityDTO> getCities(@RequestParam(value = "after", required = false) String after, @RequestParam(value = "size", defaultValue = "50") int size) {
+        return cityService.getCities(after, size);
     }
 
     @GetMapping("/{code}")
@@ -32,12 +29,12 @@ public class CityApiController {
 
     @PostMapping
     public City createCity(@RequestBody CreateCityViewModel city) {
-        return cityService.create(modelMapper.map(city, CreateCityDTO.class));
+        return cityService.create(cityMapper.toCreateCityDTO(city));
     }
 
     @PutMapping("/{code}")
     public City updateCity(@PathVariable("code") String code, @RequestBody UpdateCityViewModel city) {
-        return cityService.updateCity(code, modelMapper.map(city, UpdateCityDTO.class));
+        return cityService.updateCity(code, cityMapper.toUpdateCityDTO(city));
     }
 
     @DeleteMapping("/{code}")
@@ -2,28 +2,24 @@ package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.data.entity.Country;
 import com.flightbookingsystem.dto.CountryDTO;
-import com.flightbookingsystem.dto.create.CreateCountryDTO;
-import com.flightbookingsystem.dto.update.UpdateCountryDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
+import com.flightbookingsystem.mappers.CountryMapper;
 import com.flightbookingsystem.services.CountryService;
 import com.flightbookingsystem.web.view.model.CreateCountryViewModel;
 import com.flightbookingsystem.web.view.model.UpdateCountryViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
-
 @RestController
 @AllArgsConstructor
 @RequestMapping("/countries")
 public class CountryApiController {
     private final CountryService countryService;
-    private final ModelMapper modelMapper;
+    private final CountryMapper countryMapper;
 
     @GetMapping
-    public List<CountryDTO> getCountries() {
-        return countryService.getCountries();
+    public CursorPageDTO<CountryDTO> getCountries(@RequestParam(value = "after", required = false) Long after, @RequestParam(value = "size", defaultValue = "50") int size) {
+        return countryService.getCountries(after, size);
     }
 
     @GetMapping("/{id}")
@@ -33,12 +29,12 @@ public class CountryApiController {
 
     @PostMapping
     public Country createCountry(@RequestBody CreateCountryViewModel country) {
-        return countryService.create(modelMapper.map(country, CreateCountryDTO.class));
+        return countryService.create(countryMapper.toCreateCountryDTO(country));
     }
 
     @PutMapping("/{code}")
     public Country updateCountry(@PathVariable("code") Long id, @RequestBody UpdateCountryViewModel country) {
-        return countryService.updateCountry(id, modelMapper.map(country, UpdateCountryDTO.class));
+        return countryService.updateCountry(id, countryMapper.toUpdateCountryDTO(country));
     }
 
     @DeleteMapping("/{id}")
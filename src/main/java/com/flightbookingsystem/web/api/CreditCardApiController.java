@@ -2,13 +2,11 @@ package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.data.entity.CreditCard;
 import com.flightbookingsystem.dto.CreditCardDTO;
-import com.flightbookingsystem.dto.create.CreateCreditCardDTO;
-import com.flightbookingsystem.dto.update.UpdateCreditCardDTO;
+import com.flightbookingsystem.mappers.CreditCardMapper;
 import com.flightbookingsystem.services.CreditCardService;
 import com.flightbookingsystem.web.view.model.CreateCreditCardViewModel;
 import com.flightbookingsystem.web.view.model.UpdateCreditCardViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,7 +14,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/creditCard")
 public class CreditCardApiController {
     private final CreditCardService creditCardService;
-    private final ModelMapper modelMapper;
+    private final CreditCardMapper creditCardMapper;
 
     @GetMapping
     public CreditCardDTO getCreditCard(@RequestParam String cardNumber){
@@ -25,12 +23,12 @@ public class CreditCardApiController {
 
     @PostMapping
     public CreditCard createCreditCard(@RequestBody CreateCreditCardViewModel creditCard) {
-        return creditCardService.create(modelMapper.map(creditCard, CreateCreditCardDTO.class));
+        return creditCardService.create(creditCardMapper.toCreateCreditCardDTO(creditCard));
     }
 
     @PutMapping("/{cardNumber}")
     public CreditCard updateCreditCard(@PathVariable("cardNumber") String cardNumber, @RequestBody UpdateCreditCardViewModel creditCard) {
-        return creditCardService.updateCreditCard(cardNumber, modelMapper.map(creditCard, UpdateCreditCardDTO.class));
+        return creditCardService.updateCreditCard(cardNumber, creditCardMapper.toUpdateCreditCardDTO(creditCard));
     }
 
     @DeleteMapping("/{cardNumber}")
@@ -1,30 +1,79 @@
 package com.flightbookingsystem.web.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.FlightDTO;
-import com.flightbookingsystem.dto.create.CreateFlightDTO;
-import com.flightbookingsystem.dto.update.UpdateFlightDTO;
+import com.flightbookingsystem.dto.FlightImportResultDTO;
+import com.flightbookingsystem.dto.FlightSummaryDTO;
+import com.flightbookingsystem.dto.ItineraryDTO;
+import com.flightbookingsystem.mappers.FlightMapper;
+import com.flightbookingsystem.services.ConnectionSearchService;
+import com.flightbookingsystem.services.FlightImportService;
 import com.flightbookingsystem.services.FlightService;
+import com.flightbookingsystem.services.FlightStatusService;
+import com.flightbookingsystem.services.TicketService;
 import com.flightbookingsystem.web.view.model.CreateFlightViewModel;
 import com.flightbookingsystem.web.view.model.SearchFlight;
 import com.flightbookingsystem.web.view.model.UpdateFlightViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @AllArgsConstructor
 @RequestMapping("/flights")
 public class FlightApiController {
     private final FlightService flightService;
-    private final ModelMapper modelMapper;
+    private final ConnectionSearchService connectionSearchService;
+    private final FlightImportService flightImportService;
+    private final TicketService ticketService;
+    private final FlightStatusService flightStatusService;
+    private final FlightMapper flightMapper;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public List<FlightDTO> getFlights() {
-        return flightService.getFlights();
+    public CursorPageDTO<FlightSummaryDTO> getFlights(@RequestParam(value = "after", required = false) Long after, @RequestParam(value = "size", defaultValue = "50") int size) {
+        return flightService.getFlights(after, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportFlights() {
+        return NdjsonResponses.stream(objectMapper, flightService::exportFlights);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public FlightImportResultDTO importFlightsCsv(InputStream body) {
+        return flightImportService.importCsv(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public FlightImportResultDTO importFlightsNdjson(InputStream body) {
+        return flightImportService.importNdjson(body);
+    }
+
+    @GetMapping(value = "/status-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFlightStatus(@RequestParam(value = "flightNumber", required = false) Set<String> flightNumbers,
+                                         @RequestParam(value = "booked", defaultValue = "false") boolean booked,
+                                         @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                         Principal principal) {
+        Set<Long> flightIds = booked ? ticketService.getBookedFlightIds(principal.getName()) : Set.of();
+        Set<String> numbers = flightNumbers == null ? Set.of() : flightNumbers;
+        if (flightIds.isEmpty() && numbers.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Subscribe to at least one flight number or to booked flights");
+        }
+        return SseFlightStatusListener.open(flightStatusService, flightIds, numbers, lastEventId);
     }
 
     @GetMapping("/{id}")
@@ -41,14 +90,23 @@ public class FlightApiController {
         return flightService.getFlightsDepartureAirportCodeAndArrivalAirportCodeAndDepartureDate(departureAirportCode, arrivalAirportCode, departureDate);
     }
 
+    @PostMapping("/connection-search")
+    public List<ItineraryDTO> searchConnections(@RequestBody SearchFlight searchFlight){
+        String departureAirportCode = searchFlight.getDepartureAirport().getCode();
+        String arrivalAirportCode = searchFlight.getArrivalAirport().getCode();
+        LocalDate departureDate = searchFlight.getDepartureDate();
+
+        return connectionSearchService.searchConnections(departureAirportCode, arrivalAirportCode, departureDate);
+    }
+
     @PostMapping
     public Flight createFlight(@RequestBody CreateFlightViewModel flight) {
-        return flightService.create(modelMapper.map(flight, CreateFlightDTO.class));
+        return flightService.create(flightMapper.toCreateFlightDTO(flight));
     }
 
     @PutMapping("/{id}")
     public Flight updateFlight(@PathVariable("id") Long id, @RequestBody UpdateFlightViewModel flight) {
-        return flightService.updateFlight(id, modelMapper.map(flight, UpdateFlightDTO.class));
+        return flightService.updateFlight(id, flightMapper.toUpdateFlightDTO(flight));
     }
 
     @DeleteMapping("/{id}")
@@ -2,13 +2,11 @@ package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.data.entity.IdentificationDocument;
 import com.flightbookingsystem.dto.IdentificationDocumentDTO;
-import com.flightbookingsystem.dto.create.CreateIdentificationDocumentDTO;
-import com.flightbookingsystem.dto.update.UpdateIdentificationDocumentDTO;
+import com.flightbookingsystem.mappers.IdentificationDocumentMapper;
 import com.flightbookingsystem.services.IdentificationDocumentService;
 import com.flightbookingsystem.web.view.model.CreateIdentificationDocumentViewModel;
 import com.flightbookingsystem.web.view.model.UpdateIdentificationDocumentViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,7 +14,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/identificationDocument")
 public class IdentificationDocumentApiController {
     private final IdentificationDocumentService identificationDocumentService;
-    private final ModelMapper modelMapper;
+    private final IdentificationDocumentMapper identificationDocumentMapper;
 
     @GetMapping("/{identificationNumber}")
     public IdentificationDocumentDTO getIdentificationDocument(@PathVariable("identificationNumber") String identificationNumber){
@@ -25,13 +23,13 @@ public class IdentificationDocumentApiController {
 
     @PostMapping
     public IdentificationDocument createIdentificationDocument(@RequestBody CreateIdentificationDocumentViewModel identificationDocument) {
-        return identificationDocumentService.create(modelMapper.map(identificationDocument, CreateIdentificationDocumentDTO.class));
+        return identificationDocumentService.create(identificationDocumentMapper.toCreateIdentificationDocumentDTO(identificationDocument));
     }
 
     @PutMapping("/{identificationNumber}")
     public IdentificationDocument updateIdentificationDocument(@PathVariable("identificationNumber") String identificationNumber,
                                                                @RequestBody UpdateIdentificationDocumentViewModel identificationDocument) {
-        return identificationDocumentService.updateIdentificationDocument(identificationNumber, modelMapper.map(identificationDocument, UpdateIdentificationDocumentDTO.class));
+        return identificationDocumentService.updateIdentificationDocument(identificationNumber, identificationDocumentMapper.toUpdateIdentificationDocumentDTO(identificationDocument));
     }
 
 
@@ -2,13 +2,11 @@ package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.data.entity.PersonalInfo;
 import com.flightbookingsystem.dto.PersonalInfoDTO;
-import com.flightbookingsystem.dto.create.CreatePersonalInfoDTO;
-import com.flightbookingsystem.dto.update.UpdatePersonalInfoDTO;
+import com.flightbookingsystem.mappers.PersonalInfoMapper;
 import com.flightbookingsystem.services.PersonalInfoService;
 import com.flightbookingsystem.web.view.model.CreatePersonalInfoViewModel;
 import com.flightbookingsystem.web.view.model.UpdatePersonalInfoViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,7 +14,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/personal-info")
 public class PersonalInfoApiController {
     private final PersonalInfoService personalInfoService;
-    private final ModelMapper modelMapper;
+    private final PersonalInfoMapper personalInfoMapper;
 
     @GetMapping
     public PersonalInfoDTO getPersonalInfo(@RequestParam Long id){
@@ -25,12 +23,12 @@ public class PersonalInfoApiController {
 
     @PostMapping
     public PersonalInfo createPersonalInfo(@RequestBody CreatePersonalInfoViewModel personalInfo) {
-        return personalInfoService.create(modelMapper.map(personalInfo, CreatePersonalInfoDTO.class));
+        return personalInfoService.create(personalInfoMapper.toCreatePersonalInfoDTO(personalInfo));
     }
 
     @PutMapping("/{id}")
     public PersonalInfo updatePersonalInfo(@PathVariable("id") Long id, @RequestBody UpdatePersonalInfoViewModel personalInfo) {
-        return personalInfoService.updatePersonalInfo(id, modelMapper.map(personalInfo, UpdatePersonalInfoDTO.class));
+        return personalInfoService.updatePersonalInfo(id, personalInfoMapper.toUpdatePersonalInfoDTO(personalInfo));
     }
 
     @DeleteMapping("/{id}")
@@ -1,16 +1,15 @@
 package com.flightbookingsystem.web.api;
 
 
-import com.flightbookingsystem.data.entity.PersonalInfo;
 import com.flightbookingsystem.data.entity.Role;
 import com.flightbookingsystem.data.entity.User;
 import com.flightbookingsystem.dto.create.CreatePersonalInfoDTO;
 import com.flightbookingsystem.dto.create.CreateUserDTO;
+import com.flightbookingsystem.mappers.PersonalInfoMapper;
 import com.flightbookingsystem.services.PersonalInfoService;
 import com.flightbookingsystem.services.UserService;
 import com.flightbookingsystem.web.view.model.CreateUserViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,7 +23,7 @@ import java.util.Set;
 @RequestMapping("/register")
 public class RegisterApiController {
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final PersonalInfoMapper personalInfoMapper;
     private final PersonalInfoService personalInfoService;
 
     @PostMapping
@@ -38,7 +37,7 @@ public class RegisterApiController {
         Set<Role> roles = new HashSet<>();
         roles.add(userRole);
 
-        CreateUserDTO createUserDTO = new CreateUserDTO(user.getUsername(), user.getPassword(), modelMapper.map(personalInfoDTO, PersonalInfo.class), roles);
+        CreateUserDTO createUserDTO = new CreateUserDTO(user.getUsername(), user.getPassword(), personalInfoMapper.toPersonalInfo(personalInfoDTO), roles);
         return userService.create(createUserDTO);
     }
 }
@@ -1,9 +1,8 @@
 package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.dto.CountryDTO;
-import com.flightbookingsystem.services.AirportService;
-import com.flightbookingsystem.services.CityService;
 import com.flightbookingsystem.services.CountryService;
+import com.flightbookingsystem.services.SearchService;
 import lombok.AllArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,16 +14,15 @@ import java.util.Map;
 @AllArgsConstructor
 @RequestMapping("/search")
 public class SearchApiController {
-    private AirportService airportService;
-    private CityService cityService;
     private CountryService countryService;
+    private SearchService searchService;
 
     @GetMapping
     public Map<String, List<?>> searchEntities(@RequestParam("nameOrCode") String nameOrCode) {
         Map<String, List<?>> results = new HashMap<>();
-        results.put("airports", airportService.getAirportsByNameOrCode(nameOrCode));
-        results.put("cities", cityService.getCitiesByNameOrCode(nameOrCode));
-        results.put("countries", countryService.getCountriesByNameOrCode(nameOrCode));
+        results.put("airports", searchService.searchAirports(nameOrCode));
+        results.put("cities", searchService.searchCities(nameOrCode));
+        results.put("countries", searchService.searchCountries(nameOrCode));
         return results;
     }
 
@@ -0,0 +1,46 @@
+package com.flightbookingsystem.web.api;
+
+import com.flightbookingsystem.dto.FlightStatusEventDTO;
+import com.flightbookingsystem.services.FlightStatusService;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+
+final class SseFlightStatusListener implements FlightStatusService.Listener {
+    private final SseEmitter emitter;
+
+    private SseFlightStatusListener(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    static SseEmitter open(FlightStatusService flightStatusService, Set<Long> flightIds, Set<String> flightNumbers, Long lastEventId) {
+        // Uses spring.mvc.async.request-timeout; clients reconnect with Last-Event-ID and miss nothing still in the ring
+        SseEmitter emitter = new SseEmitter();
+        FlightStatusService.Subscription subscription = flightStatusService.subscribe(flightIds, flightNumbers, lastEventId,
+                new SseFlightStatusListener(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    @Override
+    public void onEvent(FlightStatusEventDTO event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.getSequence()))
+                .name("flight-status")
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void onHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void onClose() {
+        emitter.complete();
+    }
+}
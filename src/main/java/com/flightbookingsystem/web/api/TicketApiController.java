@@ -1,28 +1,38 @@
 package com.flightbookingsystem.web.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.TicketDTO;
-import com.flightbookingsystem.dto.create.CreateTicketDTO;
-import com.flightbookingsystem.dto.update.UpdateTicketDTO;
+import com.flightbookingsystem.dto.TicketSummaryDTO;
+import com.flightbookingsystem.mappers.TicketMapper;
 import com.flightbookingsystem.services.TicketService;
 import com.flightbookingsystem.web.view.model.CreateTicketViewModel;
 import com.flightbookingsystem.web.view.model.UpdateTicketViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.security.Principal;
 
 @RestController
 @AllArgsConstructor
 @RequestMapping("/tickets")
 public class TicketApiController {
     private final TicketService ticketService;
-    private final ModelMapper modelMapper;
+    private final TicketMapper ticketMapper;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public List<TicketDTO> getTickets() {
-        return ticketService.getTickets();
+    public CursorPageDTO<TicketSummaryDTO> getTickets(@RequestParam(value = "after", required = false) String after, @RequestParam(value = "size", defaultValue = "50") int size) {
+        return ticketService.getTickets(after, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTickets() {
+        return NdjsonResponses.stream(objectMapper, ticketService::exportTickets);
     }
 
     @GetMapping("/{bookingReference}")
@@ -31,13 +41,13 @@ public class TicketApiController {
     }
 
     @PostMapping
-    public Ticket createTicket(@RequestBody CreateTicketViewModel ticket) {
-        return ticketService.create(modelMapper.map(ticket, CreateTicketDTO.class));
+    public Ticket createTicket(@RequestBody CreateTicketViewModel ticket, Principal principal) {
+        return ticketService.create(ticketMapper.toCreateTicketDTO(ticket), principal == null ? null : principal.getName());
     }
 
     @PutMapping("/{bookingReference}")
     public Ticket updateTicket(@PathVariable("bookingReference") String bookingReference, @RequestBody UpdateTicketViewModel ticket) {
-        return ticketService.updateTicket(bookingReference, modelMapper.map(ticket, UpdateTicketDTO.class));
+        return ticketService.updateTicket(bookingReference, ticketMapper.toUpdateTicketDTO(ticket));
     }
 
     @DeleteMapping("/{bookingReference}")
@@ -1,26 +1,32 @@
 package com.flightbookingsystem.web.api;
 
 import com.flightbookingsystem.data.entity.User;
+import com.flightbookingsystem.dto.BookingSummaryDTO;
+import com.flightbookingsystem.dto.CursorPageDTO;
 import com.flightbookingsystem.dto.UserDTO;
-import com.flightbookingsystem.dto.update.UpdateUserDTO;
+import com.flightbookingsystem.mappers.UserMapper;
+import com.flightbookingsystem.services.BookingSummaryService;
 import com.flightbookingsystem.services.UserService;
 import com.flightbookingsystem.web.view.model.UpdateUserViewModel;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @AllArgsConstructor
 @RequestMapping("/users")
 public class UserApiController {
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final BookingSummaryService bookingSummaryService;
 
     @GetMapping
-    public List<UserDTO> getUsers() {
-        return userService.getUsers();
+    public CursorPageDTO<UserDTO> getUsers(@RequestParam(value = "after", required = false) String after, @RequestParam(value = "size", defaultValue = "50") int size) {
+        return userService.getUsers(after, size);
     }
 
     @RequestMapping("/{username}")
@@ -28,9 +34,24 @@ public class UserApiController {
         return userService.getUser(username);
     }
 
+    @GetMapping("/me/bookings")
+    public BookingSummaryDTO getOwnBookingSummary(Authentication authentication) {
+        return bookingSummaryService.getBookingSummary(authentication.getName());
+    }
+
+    @GetMapping("/{username}/bookings")
+    public BookingSummaryDTO getBookingSummary(@PathVariable("username") String username, Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+        if (!admin && !username.equals(authentication.getName())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the user or an admin can read these bookings");
+        }
+        return bookingSummaryService.getBookingSummary(username);
+    }
+
     @PutMapping("/{code}")
     public User updateUser(@PathVariable("code") String code, @RequestBody UpdateUserViewModel user) {
-        return userService.updateUser(code, modelMapper.map(user, UpdateUserDTO.class));
+        return userService.updateUser(code, userMapper.toUpdateUserDTO(user));
     }
 
     @DeleteMapping("/{code}")
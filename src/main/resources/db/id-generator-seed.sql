@@ -0,0 +1,13 @@
+-- Keeps the pooled id_generator rows ahead of ids that were assigned by AUTO_INCREMENT before the switch to table
+-- generators. The pooled optimizer hands out the block ending at the stored value, so each counter must be at least
+-- the current max id plus that entity's allocationSize. A counter is only ever raised to that floor, so restarts of an
+-- already migrated database leave it alone and it is never moved back. Keep the increments in step with the
+-- allocationSize of each @TableGenerator.
+INSERT INTO id_generator (entity, next_id) SELECT 'flight', COALESCE(MAX(id), 0) + 100 FROM flight
+    ON DUPLICATE KEY UPDATE next_id = GREATEST(next_id, VALUES(next_id));
+INSERT INTO id_generator (entity, next_id) SELECT 'country', COALESCE(MAX(id), 0) + 50 FROM country
+    ON DUPLICATE KEY UPDATE next_id = GREATEST(next_id, VALUES(next_id));
+INSERT INTO id_generator (entity, next_id) SELECT 'personal_info', COALESCE(MAX(id), 0) + 50 FROM personal_info
+    ON DUPLICATE KEY UPDATE next_id = GREATEST(next_id, VALUES(next_id));
+INSERT INTO id_generator (entity, next_id) SELECT 'role', COALESCE(MAX(id), 0) + 50 FROM role
+    ON DUPLICATE KEY UPDATE next_id = GREATEST(next_id, VALUES(next_id));
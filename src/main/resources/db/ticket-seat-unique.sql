@@ -0,0 +1,9 @@
+-- Backstop for the in-memory seat index: a seat can be sold only once per flight. Existing databases get the
+-- constraint on the next start; duplicate (flight_id, seat) rows must be resolved first or this statement fails.
+SET @ticket_seat_constraint = (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'ticket' AND index_name = 'uk_ticket_flight_seat');
+SET @ticket_seat_ddl = IF(@ticket_seat_constraint = 0,
+    'ALTER TABLE ticket ADD CONSTRAINT uk_ticket_flight_seat UNIQUE (flight_id, seat)', 'DO 0');
+PREPARE ticket_seat_statement FROM @ticket_seat_ddl;
+EXECUTE ticket_seat_statement;
+DEALLOCATE PREPARE ticket_seat_statement;
@@ -0,0 +1,131 @@
+package com.flightbookingsystem.data;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.data.entity.Country;
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.CountryCode;
+import com.flightbookingsystem.data.repository.AirportRepository;
+import com.flightbookingsystem.data.repository.CityRepository;
+import com.flightbookingsystem.data.repository.CountryRepository;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReferenceDataSecondLevelCacheTest {
+    private static final LocalDateTime DEPARTURE_TIME = LocalDateTime.of(2031, 3, 14, 9, 30);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private AirportRepository airportRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    private Country country;
+    private City city;
+    private Airport departureAirport;
+    private Airport arrivalAirport;
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            CountryCode code = Arrays.stream(CountryCode.values())
+                    .filter(countryCode -> countryRepository.findAllByCode(countryCode).isEmpty())
+                    .findFirst()
+                    .orElseThrow();
+            country = new Country();
+            country.setCode(code);
+            country.setName("Cache Test Country");
+            country = countryRepository.save(country);
+
+            city = new City();
+            city.setCode(uniqueCode());
+            city.setName("Cache Test City");
+            city.setCountry(country);
+            city.setTimeZone(TimeZone.getTimeZone("UTC"));
+            city = cityRepository.save(city);
+
+            departureAirport = airportRepository.save(new Airport(uniqueCode(), "Cache Test Departure", city, null, null));
+            arrivalAirport = airportRepository.save(new Airport(uniqueCode(), "Cache Test Arrival", city, null, null));
+
+            flight = new Flight();
+            flight.setFlightNumber("CT" + uniqueCode());
+            flight.setDepartureAirport(departureAirport);
+            flight.setArrivalAirport(arrivalAirport);
+            flight.setDepartureTime(DEPARTURE_TIME);
+            flight.setArrivalTime(DEPARTURE_TIME.plusHours(2));
+            flight.setStartingPrice(BigDecimal.TEN);
+            flight.setDuration(Duration.ofHours(2));
+            flight = flightRepository.save(flight);
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            flightRepository.deleteById(flight.getId());
+            airportRepository.deleteById(departureAirport.getCode());
+            airportRepository.deleteById(arrivalAirport.getCode());
+            cityRepository.deleteById(city.getCode());
+            countryRepository.deleteById(country.getId());
+        });
+    }
+
+    @Test
+    void repeatedFlightReadsDoNotReloadReferenceData() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        readFlights();
+        statistics.clear();
+        readFlights();
+
+        assertEquals(1, statistics.getPrepareStatementCount(), "only the flight query itself should reach the database");
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    private void readFlights() {
+        transactionTemplate.executeWithoutResult(status -> flightRepository.findAllByRouteAndDepartureTimeInRange(
+                departureAirport.getCode(), arrivalAirport.getCode(), DEPARTURE_TIME.minusHours(1), DEPARTURE_TIME.plusHours(1))
+                .forEach(found -> assertEquals(country.getId(), found.getArrivalAirport().getCity().getCountry().getId())));
+    }
+
+    private static String uniqueCode() {
+        return UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
@@ -0,0 +1,166 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.repository.AirportRepository;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import com.flightbookingsystem.dto.FlightDTO;
+import com.flightbookingsystem.dto.ItineraryDTO;
+import com.flightbookingsystem.mappers.FlightMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ConnectionSearchServiceImplTest {
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 15);
+
+    private final AirportRepository airportRepository = Mockito.mock(AirportRepository.class);
+    private final FlightRepository flightRepository = Mockito.mock(FlightRepository.class);
+    private final FlightMapper flightMapper = Mockito.mock(FlightMapper.class);
+    private final RouteGraph routeGraph = new RouteGraph(flightRepository, new FlightTimes(airportRepository, flightRepository));
+    private final ConnectionSearchServiceImpl connectionSearchService = new ConnectionSearchServiceImpl(
+            routeGraph, flightRepository, flightMapper, Mockito.mock(FarePricing.class));
+    private final Map<Long, Flight> flights = new HashMap<>();
+
+    ConnectionSearchServiceImplTest() {
+        // Winter offsets: Sofia UTC+2, Istanbul UTC+3, Frankfurt UTC+1, London UTC+0, New York UTC-5
+        for (String[] airport : new String[][]{{"SOF", "Europe/Sofia"}, {"IST", "Europe/Istanbul"},
+                {"FRA", "Europe/Berlin"}, {"LHR", "Europe/London"}, {"JFK", "America/New_York"}}) {
+            when(airportRepository.findById(airport[0])).thenReturn(Optional.of(airport(airport[0], airport[1])));
+        }
+        when(flightRepository.findAllById(any())).thenAnswer(invocation ->
+                StreamSupport.stream(invocation.<Iterable<Long>>getArgument(0).spliterator(), false)
+                        .map(flights::get)
+                        .toList());
+        when(flightMapper.toFlightDTO(any(Flight.class))).thenAnswer(invocation -> {
+            FlightDTO flightDTO = new FlightDTO();
+            flightDTO.setFlightNumber(invocation.<Flight>getArgument(0).getFlightNumber());
+            return flightDTO;
+        });
+    }
+
+    @Test
+    void findsDirectAndConnectingFlightsOrderedByArrival() {
+        add(1L, "SOF", "2030-01-15T06:00:00Z", "LHR", "2030-01-15T09:30:00Z");
+        add(2L, "LHR", "2030-01-15T11:00:00Z", "JFK", "2030-01-15T19:00:00Z");
+        add(3L, "SOF", "2030-01-15T08:00:00Z", "JFK", "2030-01-15T20:00:00Z");
+
+        List<ItineraryDTO> itineraries = connectionSearchService.searchConnections("SOF", "JFK", DATE);
+
+        assertEquals(List.of(List.of("FB1", "FB2"), List.of("FB3")), flightNumbers(itineraries));
+        assertEquals(1, itineraries.get(0).getStops());
+        assertEquals(Duration.ofHours(13), itineraries.get(0).getTotalDuration());
+        assertEquals(0, itineraries.get(1).getStops());
+    }
+
+    @Test
+    void allowsAtMostTwoStops() {
+        add(1L, "SOF", "2030-01-15T06:00:00Z", "IST", "2030-01-15T07:00:00Z");
+        add(2L, "IST", "2030-01-15T08:00:00Z", "FRA", "2030-01-15T09:00:00Z");
+        add(3L, "FRA", "2030-01-15T10:00:00Z", "LHR", "2030-01-15T11:00:00Z");
+        add(4L, "LHR", "2030-01-15T12:00:00Z", "JFK", "2030-01-15T19:00:00Z");
+
+        assertEquals(List.of(List.of("FB1", "FB2", "FB3")), flightNumbers(connectionSearchService.searchConnections("SOF", "LHR", DATE)));
+        assertEquals(List.of(List.of("FB2", "FB3", "FB4")), flightNumbers(connectionSearchService.searchConnections("IST", "JFK", DATE)));
+        assertTrue(connectionSearchService.searchConnections("SOF", "JFK", DATE).isEmpty());
+    }
+
+    @Test
+    void connectsOnlyWithinTheConnectionWindow() {
+        add(1L, "SOF", "2030-01-15T06:00:00Z", "LHR", "2030-01-15T10:00:00Z");
+        add(2L, "LHR", "2030-01-15T10:44:00Z", "JFK", "2030-01-15T18:44:00Z");
+        add(3L, "LHR", "2030-01-15T10:45:00Z", "JFK", "2030-01-15T18:45:00Z");
+        add(4L, "LHR", "2030-01-16T09:59:00Z", "JFK", "2030-01-16T17:59:00Z");
+        add(5L, "LHR", "2030-01-16T10:00:00Z", "JFK", "2030-01-16T18:00:00Z");
+
+        assertEquals(List.of(List.of("FB1", "FB3"), List.of("FB1", "FB4")),
+                flightNumbers(connectionSearchService.searchConnections("SOF", "JFK", DATE)));
+    }
+
+    @Test
+    void neverRevisitsAnAirport() {
+        add(1L, "SOF", "2030-01-15T06:00:00Z", "LHR", "2030-01-15T09:00:00Z");
+        add(2L, "LHR", "2030-01-15T10:00:00Z", "SOF", "2030-01-15T13:00:00Z");
+        add(3L, "SOF", "2030-01-15T14:00:00Z", "JFK", "2030-01-16T02:00:00Z");
+        add(4L, "LHR", "2030-01-15T10:00:00Z", "FRA", "2030-01-15T11:30:00Z");
+
+        assertEquals(List.of(List.of("FB3")), flightNumbers(connectionSearchService.searchConnections("SOF", "JFK", DATE)));
+        assertEquals(List.of(List.of("FB1", "FB4")), flightNumbers(connectionSearchService.searchConnections("SOF", "FRA", DATE)));
+    }
+
+    @Test
+    void matchesTheTravelDateInTheDepartureAirportsTimeZone() {
+        // 22:30Z on the 14th is already the 15th in Sofia
+        addLocal(1L, "SOF", LocalDateTime.of(2030, 1, 15, 0, 30), "LHR", LocalDateTime.of(2030, 1, 15, 2, 30));
+        addLocal(2L, "SOF", LocalDateTime.of(2030, 1, 15, 23, 30), "LHR", LocalDateTime.of(2030, 1, 16, 1, 30));
+        // 22:30Z on the 15th is already the 16th in Sofia
+        addLocal(3L, "SOF", LocalDateTime.of(2030, 1, 16, 0, 30), "LHR", LocalDateTime.of(2030, 1, 16, 2, 30));
+        // 02:00Z on the 16th is still the 15th in New York
+        addLocal(4L, "JFK", LocalDateTime.of(2030, 1, 15, 21, 0), "LHR", LocalDateTime.of(2030, 1, 16, 9, 0));
+
+        assertEquals(Instant.parse("2030-01-14T22:30:00Z"), routeGraph.getLeg(1L).departureInstant());
+        assertEquals(List.of(1L, 2L), flightIds(routeGraph.getDeparturesOnLocalDate("SOF", DATE)));
+        assertEquals(List.of(3L), flightIds(routeGraph.getDeparturesOnLocalDate("SOF", DATE.plusDays(1))));
+        assertEquals(List.of(4L), flightIds(routeGraph.getDeparturesOnLocalDate("JFK", DATE)));
+        assertTrue(routeGraph.getDeparturesOnLocalDate("JFK", DATE.plusDays(1)).isEmpty());
+
+        assertEquals(List.of(List.of("FB1"), List.of("FB2")), flightNumbers(connectionSearchService.searchConnections("SOF", "LHR", DATE)));
+        assertEquals(List.of(List.of("FB4")), flightNumbers(connectionSearchService.searchConnections("JFK", "LHR", DATE)));
+    }
+
+    private void add(Long id, String from, String departure, String to, String arrival) {
+        Flight flight = flight(id, from, to);
+        flight.setDepartureInstant(Instant.parse(departure));
+        flight.setArrivalInstant(Instant.parse(arrival));
+        routeGraph.addFlight(flight);
+    }
+
+    private void addLocal(Long id, String from, LocalDateTime departure, String to, LocalDateTime arrival) {
+        Flight flight = flight(id, from, to);
+        flight.setDepartureTime(departure);
+        flight.setArrivalTime(arrival);
+        routeGraph.addFlight(flight);
+    }
+
+    private Flight flight(Long id, String from, String to) {
+        Flight flight = new Flight();
+        flight.setId(id);
+        flight.setFlightNumber("FB" + id);
+        flight.setDepartureAirport(new Airport(from, from, null, null, null));
+        flight.setArrivalAirport(new Airport(to, to, null, null, null));
+        flights.put(id, flight);
+        return flight;
+    }
+
+    private static List<List<String>> flightNumbers(List<ItineraryDTO> itineraries) {
+        return itineraries.stream()
+                .map(itinerary -> itinerary.getFlights().stream().map(FlightDTO::getFlightNumber).toList())
+                .toList();
+    }
+
+    private static List<Long> flightIds(Iterable<RouteGraph.FlightLeg> legs) {
+        return StreamSupport.stream(legs.spliterator(), false).map(RouteGraph.FlightLeg::flightId).toList();
+    }
+
+    private static Airport airport(String code, String zone) {
+        City city = new City();
+        city.setCode(code);
+        city.setTimeZone(TimeZone.getTimeZone(zone));
+        return new Airport(code, code, city, null, null);
+    }
+}
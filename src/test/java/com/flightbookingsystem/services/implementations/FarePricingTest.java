@@ -0,0 +1,93 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import com.flightbookingsystem.data.repository.TicketRepository;
+import com.flightbookingsystem.services.implementations.RouteGraph.FlightLeg;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class FarePricingTest {
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+    private static final long FAR_AHEAD = 1L;
+    private static final long LAST_MINUTE = 2L;
+    private static final long DEPARTED = 3L;
+
+    private final RouteGraph routeGraph = Mockito.mock(RouteGraph.class);
+    private final SeatInventory seatInventory = new SeatInventory(Mockito.mock(TicketRepository.class));
+    private final FarePricing farePricing = new FarePricing(routeGraph, seatInventory);
+
+    FarePricingTest() {
+        when(routeGraph.getLeg(FAR_AHEAD)).thenReturn(leg(FAR_AHEAD, NOW.plus(Duration.ofDays(100))));
+        when(routeGraph.getLeg(LAST_MINUTE)).thenReturn(leg(LAST_MINUTE, NOW.plus(Duration.ofHours(3))));
+        when(routeGraph.getLeg(DEPARTED)).thenReturn(leg(DEPARTED, NOW.minus(Duration.ofMinutes(1))));
+    }
+
+    @Test
+    void appliesClassFactorAndLuggageFee() {
+        assertEquals(9_000, quote(FAR_AHEAD, TravelClass.ECONOMY, LuggageType.FREE));
+        assertEquals(22_500, quote(FAR_AHEAD, TravelClass.BUSINESS, LuggageType.FREE));
+        assertEquals(36_000, quote(FAR_AHEAD, TravelClass.FIRST, LuggageType.FREE));
+        assertEquals(11_500, quote(FAR_AHEAD, TravelClass.ECONOMY, LuggageType.CABIN));
+        assertEquals(15_000, quote(FAR_AHEAD, TravelClass.ECONOMY, LuggageType.CHECKED_AND_CABIN));
+    }
+
+    @Test
+    void lastMinuteFaresCostMore() {
+        assertEquals(16_000, quote(LAST_MINUTE, TravelClass.ECONOMY, LuggageType.FREE));
+    }
+
+    @Test
+    void faresRiseAsTheCabinFills() {
+        long empty = quote(FAR_AHEAD, TravelClass.ECONOMY, LuggageType.FREE);
+        for (int row = 1; row <= 20; row++) {
+            for (char seat = 'A'; seat <= 'F'; seat++) {
+                seatInventory.tryReserve(FAR_AHEAD, row + String.valueOf(seat));
+            }
+        }
+        long halfFull = quote(FAR_AHEAD, TravelClass.ECONOMY, LuggageType.FREE);
+        for (int row = 21; row <= SeatInventory.ROWS; row++) {
+            for (char seat = 'A'; seat <= 'F'; seat++) {
+                seatInventory.tryReserve(FAR_AHEAD, row + String.valueOf(seat));
+            }
+        }
+
+        assertTrue(halfFull > empty);
+        assertEquals(18_000, quote(FAR_AHEAD, TravelClass.ECONOMY, LuggageType.FREE));
+    }
+
+    @Test
+    void departedAndUnknownFlightsAreNotOnSale() {
+        for (long flightId : new long[]{DEPARTED, 99L}) {
+            assertEquals(-1, quote(flightId, TravelClass.ECONOMY, LuggageType.FREE));
+            assertNull(farePricing.quoteAmount(flightId, TravelClass.ECONOMY, LuggageType.FREE, NOW));
+            assertNull(farePricing.fares(flightId, LuggageType.FREE, NOW));
+        }
+    }
+
+    @Test
+    void convertsAmountsAtTheEdge() {
+        Map<TravelClass, BigDecimal> fares = farePricing.fares(FAR_AHEAD, LuggageType.FREE, NOW);
+
+        assertEquals(new BigDecimal("90.00"), fares.get(TravelClass.ECONOMY));
+        assertEquals(new BigDecimal("360.00"), fares.get(TravelClass.FIRST));
+        assertEquals(12_346, FarePricing.toMinor(new BigDecimal("123.455")));
+        assertEquals(new BigDecimal("123.46"), FarePricing.toAmount(12_346));
+    }
+
+    private long quote(long flightId, TravelClass travelClass, LuggageType luggageType) {
+        return farePricing.quote(flightId, travelClass, luggageType, NOW.getEpochSecond());
+    }
+
+    private static FlightLeg leg(long flightId, Instant departure) {
+        return new FlightLeg(flightId, "SOF", "JFK", departure, departure.plus(Duration.ofHours(10)), 10_000);
+    }
+}
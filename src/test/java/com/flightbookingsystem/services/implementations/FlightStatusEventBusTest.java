@@ -0,0 +1,173 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.enums.FlightStatus;
+import com.flightbookingsystem.dto.FlightStatusEventDTO;
+import com.flightbookingsystem.services.FlightStatusService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightStatusEventBusTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<FlightStatusEventBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void shutDown() {
+        buses.forEach(FlightStatusEventBus::destroy);
+    }
+
+    @Test
+    void ringSizeMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new FlightStatusEventBus(1000, 64, meterRegistry));
+    }
+
+    @Test
+    void deliversLiveEventsOnlyForSubscribedFlights() throws InterruptedException {
+        FlightStatusEventBus bus = bus(16, 64);
+        RecordingListener listener = new RecordingListener();
+        bus.subscribe(Set.of(1L), Set.of("FB200"), null, listener);
+
+        bus.publish(flight(1L, "FB100"), FlightStatus.SCHEDULED);
+        bus.publish(flight(2L, "FB200"), FlightStatus.SCHEDULED);
+        bus.publish(flight(3L, "FB300"), FlightStatus.SCHEDULED);
+        bus.publish(flight(1L, "FB100"), FlightStatus.DEPARTED);
+
+        assertEquals(List.of(1L, 2L, 4L), listener.awaitSequences(3));
+    }
+
+    @Test
+    void replaysMissedEventsBeforeLiveOnes() throws InterruptedException {
+        FlightStatusEventBus bus = bus(16, 64);
+        bus.publish(flight(1L, "FB100"), FlightStatus.SCHEDULED);
+        bus.publish(flight(2L, "FB200"), FlightStatus.SCHEDULED);
+        bus.publish(flight(1L, "FB100"), FlightStatus.DEPARTED);
+
+        RecordingListener listener = new RecordingListener();
+        bus.subscribe(Set.of(1L), Set.of(), 1L, listener);
+        bus.publish(flight(1L, "FB100"), FlightStatus.LANDED);
+
+        assertEquals(List.of(3L, 4L), listener.awaitSequences(2));
+    }
+
+    @Test
+    void replayOnlyReachesBackAsFarAsTheRing() throws InterruptedException {
+        FlightStatusEventBus bus = bus(4, 64);
+        for (int i = 0; i < 10; i++) {
+            bus.publish(flight(1L, "FB100"), FlightStatus.SCHEDULED);
+        }
+
+        RecordingListener listener = new RecordingListener();
+        bus.subscribe(Set.of(1L), Set.of(), 0L, listener);
+
+        assertEquals(List.of(7L, 8L, 9L, 10L), listener.awaitSequences(4));
+    }
+
+    @Test
+    void closesASubscriberThatFallsBehind() throws InterruptedException {
+        FlightStatusEventBus bus = bus(16, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener() {
+            @Override
+            public void onEvent(FlightStatusEventDTO event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        bus.subscribe(Set.of(1L), Set.of(), null, slow);
+
+        for (int i = 0; i < 5; i++) {
+            bus.publish(flight(1L, "FB100"), FlightStatus.SCHEDULED);
+        }
+
+        try {
+            assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+            assertEquals(1.0, meterRegistry.counter("flight.status.subscribers.dropped").count());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void replayRacingLivePublishesDeliversEverySequenceOnceInOrder() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            FlightStatusEventBus bus = bus(4096, 4096);
+            for (int i = 0; i < 50; i++) {
+                bus.publish(flight(1L, "FB100"), FlightStatus.SCHEDULED);
+            }
+
+            CountDownLatch publishing = new CountDownLatch(1);
+            Thread publisher = new Thread(() -> {
+                publishing.countDown();
+                for (int i = 0; i < 1000; i++) {
+                    bus.publish(flight(1L, "FB100"), FlightStatus.DEPARTED);
+                }
+            });
+            publisher.start();
+            publishing.await();
+
+            RecordingListener listener = new RecordingListener();
+            bus.subscribe(Set.of(1L), Set.of(), 0L, listener);
+            publisher.join();
+
+            assertEquals(LongStream.rangeClosed(1, 1050).boxed().toList(), listener.awaitSequences(1050));
+        }
+    }
+
+    private FlightStatusEventBus bus(int ringSize, int mailboxCapacity) {
+        FlightStatusEventBus bus = new FlightStatusEventBus(ringSize, mailboxCapacity, meterRegistry);
+        buses.add(bus);
+        return bus;
+    }
+
+    private static Flight flight(Long id, String flightNumber) {
+        Flight flight = new Flight();
+        flight.setId(id);
+        flight.setFlightNumber(flightNumber);
+        return flight;
+    }
+
+    private static class RecordingListener implements FlightStatusService.Listener {
+        private final List<Long> sequences = new ArrayList<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void onEvent(FlightStatusEventDTO event) {
+            synchronized (sequences) {
+                sequences.add(event.getSequence());
+                sequences.notifyAll();
+            }
+        }
+
+        @Override
+        public void onHeartbeat() {
+        }
+
+        @Override
+        public void onClose() {
+            closed.countDown();
+        }
+
+        List<Long> awaitSequences(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            synchronized (sequences) {
+                while (sequences.size() < count && System.nanoTime() < deadline) {
+                    sequences.wait(50);
+                }
+                return List.copyOf(sequences);
+            }
+        }
+    }
+}
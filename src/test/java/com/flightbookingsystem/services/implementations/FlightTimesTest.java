@@ -0,0 +1,75 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Airport;
+import com.flightbookingsystem.data.entity.City;
+import com.flightbookingsystem.data.repository.AirportRepository;
+import com.flightbookingsystem.data.repository.FlightRepository;
+import com.flightbookingsystem.exceptions.AirportNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FlightTimesTest {
+    private final AirportRepository airportRepository = Mockito.mock(AirportRepository.class);
+    private final FlightTimes flightTimes = new FlightTimes(airportRepository, Mockito.mock(FlightRepository.class));
+
+    FlightTimesTest() {
+        when(airportRepository.findById("SOF")).thenReturn(Optional.of(airport("SOF", "Europe/Sofia")));
+        when(airportRepository.findById("JFK")).thenReturn(Optional.of(airport("JFK", "America/New_York")));
+    }
+
+    @Test
+    void usesDaylightSavingOffsetsOfTheTravelDate() {
+        // Summer: Sofia is UTC+3 and New York UTC-4
+        FlightTimes.NormalizedTimes summer = flightTimes.normalize("SOF", LocalDateTime.of(2024, 7, 1, 10, 0),
+                "JFK", LocalDateTime.of(2024, 7, 1, 14, 0));
+        assertEquals(Instant.parse("2024-07-01T07:00:00Z"), summer.departureInstant());
+        assertEquals(Duration.ofHours(11), summer.duration());
+
+        // Winter: Sofia is UTC+2 and New York UTC-5
+        FlightTimes.NormalizedTimes winter = flightTimes.normalize("SOF", LocalDateTime.of(2024, 1, 15, 10, 0),
+                "JFK", LocalDateTime.of(2024, 1, 15, 14, 0));
+        assertEquals(Duration.ofHours(11), winter.duration());
+    }
+
+    @Test
+    void accountsForAClockChangeDuringTheFlight() {
+        // New York springs forward on 2024-03-10 while Sofia is still on winter time
+        FlightTimes.NormalizedTimes times = flightTimes.normalize("SOF", LocalDateTime.of(2024, 3, 10, 6, 0),
+                "JFK", LocalDateTime.of(2024, 3, 10, 11, 0));
+        assertEquals(Duration.ofHours(11), times.duration());
+    }
+
+    @Test
+    void cachesZonesPerAirportUntilEvicted() {
+        flightTimes.zoneOf("SOF");
+        flightTimes.zoneOf("SOF");
+        verify(airportRepository, times(1)).findById("SOF");
+
+        flightTimes.evictAirport("SOF");
+        flightTimes.zoneOf("SOF");
+        verify(airportRepository, times(2)).findById("SOF");
+    }
+
+    @Test
+    void rejectsUnknownAirports() {
+        assertThrows(AirportNotFoundException.class, () -> flightTimes.zoneOf("XXX"));
+    }
+
+    private static Airport airport(String code, String zone) {
+        City city = new City();
+        city.setCode(code);
+        city.setTimeZone(TimeZone.getTimeZone(zone));
+        return new Airport(code, code, city, null, null);
+    }
+}
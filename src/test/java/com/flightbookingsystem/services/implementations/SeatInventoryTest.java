@@ -0,0 +1,85 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatInventoryTest {
+    private final SeatInventory seatInventory = new SeatInventory(Mockito.mock(TicketRepository.class));
+
+    @Test
+    void reservedSeatCannotBeReservedAgainUntilReleased() {
+        assertTrue(seatInventory.tryReserve(1L, "12C"));
+        assertFalse(seatInventory.tryReserve(1L, "12C"));
+        assertFalse(seatInventory.isAvailable(1L, "12C"));
+        assertTrue(seatInventory.tryReserve(2L, "12C"));
+
+        seatInventory.release(1L, "12C");
+
+        assertTrue(seatInventory.isAvailable(1L, "12C"));
+        assertTrue(seatInventory.tryReserve(1L, "12C"));
+    }
+
+    @Test
+    void reportsRemainingSeats() {
+        assertEquals(SeatInventory.SEAT_COUNT, seatInventory.getAvailableSeatCount(1L));
+
+        seatInventory.tryReserve(1L, "1A");
+        seatInventory.tryReserve(1L, "39F");
+
+        List<String> availableSeats = seatInventory.getAvailableSeats(1L);
+        assertEquals(SeatInventory.SEAT_COUNT - 2, seatInventory.getAvailableSeatCount(1L));
+        assertEquals(SeatInventory.SEAT_COUNT - 2, availableSeats.size());
+        assertFalse(availableSeats.contains("1A"));
+        assertFalse(availableSeats.contains("39F"));
+        assertTrue(availableSeats.contains("1B"));
+    }
+
+    @Test
+    void rejectsSeatsOutsideTheCabin() {
+        assertThrows(IllegalArgumentException.class, () -> seatInventory.tryReserve(1L, "40A"));
+        assertThrows(IllegalArgumentException.class, () -> seatInventory.tryReserve(1L, "0A"));
+        assertThrows(IllegalArgumentException.class, () -> seatInventory.tryReserve(1L, "1G"));
+    }
+
+    @Test
+    void concurrentBookingsNeverDoubleSellASeat() throws InterruptedException {
+        int threads = 16;
+        int attemptsPerSeat = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentHashMap<String, AtomicInteger> sold = new ConcurrentHashMap<>();
+        List<String> seats = seatInventory.getAvailableSeats(1L);
+
+        for (int thread = 0; thread < threads; thread++) {
+            executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < attemptsPerSeat; attempt++) {
+                    for (String seat : seats) {
+                        if (seatInventory.tryReserve(1L, seat)) {
+                            sold.computeIfAbsent(seat, s -> new AtomicInteger()).incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(SeatInventory.SEAT_COUNT, sold.size());
+        sold.forEach((seat, count) -> assertEquals(1, count.get(), "Seat " + seat + " was sold more than once"));
+        assertEquals(0, seatInventory.getAvailableSeatCount(1L));
+    }
+}
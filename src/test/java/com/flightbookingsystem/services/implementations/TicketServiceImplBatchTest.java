@@ -0,0 +1,146 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.data.entity.User;
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import com.flightbookingsystem.data.repository.TicketRepository;
+import com.flightbookingsystem.dto.BatchItemResultDTO;
+import com.flightbookingsystem.dto.BatchResultDTO;
+import com.flightbookingsystem.dto.create.CreateTicketDTO;
+import com.flightbookingsystem.mappers.TicketMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketServiceImplBatchTest {
+    private static final long FLIGHT_ID = 1L;
+
+    private final TicketMapper ticketMapper = Mockito.mock(TicketMapper.class);
+    private final SeatInventory seatInventory = new SeatInventory(Mockito.mock(TicketRepository.class));
+    private final TicketConfirmationOutbox ticketConfirmationOutbox = Mockito.mock(TicketConfirmationOutbox.class);
+    private final FarePricing farePricing = Mockito.mock(FarePricing.class);
+    private final EntityManager entityManager = Mockito.mock(EntityManager.class);
+    private final TicketServiceImpl ticketService = new TicketServiceImpl(
+            Mockito.mock(TicketRepository.class),
+            ticketMapper,
+            seatInventory,
+            ticketConfirmationOutbox,
+            new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+            Mockito.mock(BookingSummaryProjection.class),
+            farePricing,
+            entityManager,
+            new BatchSupport(Mockito.mock(Validator.class)));
+
+    TicketServiceImplBatchTest() {
+        when(ticketMapper.toTicket(any(CreateTicketDTO.class))).thenAnswer(invocation -> toTicket(invocation.getArgument(0)));
+        when(farePricing.quoteAmount(any(), any(), any(), any())).thenReturn(new BigDecimal("100.00"));
+        when(entityManager.getReference(eq(Flight.class), any())).thenAnswer(invocation -> flight(invocation.getArgument(1)));
+        when(entityManager.getReference(eq(User.class), any())).thenReturn(new User());
+    }
+
+    @Test
+    void booksEveryTicketInOneTransaction() {
+        BatchResultDTO result = ticketService.createTickets(List.of(item("1A"), item("1B")), "alice");
+
+        assertTrue(result.isCommitted());
+        assertStatuses(result, BatchItemResultDTO.Status.CREATED, BatchItemResultDTO.Status.CREATED);
+        verify(entityManager, times(2)).persist(any(Ticket.class));
+        verify(ticketConfirmationOutbox, times(2)).enqueue(any(Ticket.class));
+        assertFalse(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+        assertFalse(seatInventory.isAvailable(FLIGHT_ID, "1B"));
+    }
+
+    @Test
+    void writesNothingWhenOneSeatIsAlreadyTaken() {
+        seatInventory.tryReserve(FLIGHT_ID, "2A");
+
+        BatchResultDTO result = ticketService.createTickets(List.of(item("1A"), item("2A"), item("3A")), "alice");
+
+        assertFalse(result.isCommitted());
+        assertStatuses(result, BatchItemResultDTO.Status.NOT_WRITTEN, BatchItemResultDTO.Status.CONFLICT, BatchItemResultDTO.Status.NOT_WRITTEN);
+        verify(entityManager, never()).persist(any());
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "3A"));
+    }
+
+    @Test
+    void writesNothingWhenTheBatchRequestsASeatTwice() {
+        BatchResultDTO result = ticketService.createTickets(List.of(item("1A"), item("1A")), "alice");
+
+        assertFalse(result.isCommitted());
+        assertStatuses(result, BatchItemResultDTO.Status.NOT_WRITTEN, BatchItemResultDTO.Status.CONFLICT);
+        verify(entityManager, never()).persist(any());
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+    }
+
+    @Test
+    void reportsAConstraintViolationOnFlushAsAConflictOnEveryItem() {
+        doThrow(new DataIntegrityViolationException("Duplicate entry")).when(entityManager).flush();
+
+        BatchResultDTO result = ticketService.createTickets(List.of(item("1A"), item("1B")), "alice");
+
+        assertFalse(result.isCommitted());
+        assertStatuses(result, BatchItemResultDTO.Status.CONFLICT, BatchItemResultDTO.Status.CONFLICT);
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "1B"));
+    }
+
+    @Test
+    void reportsOtherWriteFailuresAsRetryable() {
+        doThrow(new PersistenceException("Connection reset")).when(entityManager).flush();
+
+        BatchResultDTO result = ticketService.createTickets(List.of(item("1A")), "alice");
+
+        assertFalse(result.isCommitted());
+        assertStatuses(result, BatchItemResultDTO.Status.FAILED);
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+    }
+
+    private static void assertStatuses(BatchResultDTO result, BatchItemResultDTO.Status... expected) {
+        assertEquals(List.of(expected), result.getItems().stream().map(BatchItemResultDTO::getStatus).toList());
+    }
+
+    private static CreateTicketDTO item(String seat) {
+        CreateTicketDTO createTicketDTO = new CreateTicketDTO();
+        createTicketDTO.setFlight(flight(FLIGHT_ID));
+        createTicketDTO.setSeat(seat);
+        createTicketDTO.setTravelClass(TravelClass.ECONOMY);
+        createTicketDTO.setLuggageType(LuggageType.CABIN);
+        return createTicketDTO;
+    }
+
+    private static Ticket toTicket(CreateTicketDTO createTicketDTO) {
+        Ticket ticket = new Ticket();
+        ticket.setBookingReference(createTicketDTO.getBookingReference());
+        ticket.setFlight(createTicketDTO.getFlight());
+        ticket.setSeat(createTicketDTO.getSeat());
+        ticket.setTravelClass(createTicketDTO.getTravelClass());
+        ticket.setLuggageType(createTicketDTO.getLuggageType());
+        return ticket;
+    }
+
+    private static Flight flight(Long id) {
+        Flight flight = new Flight();
+        flight.setId(id);
+        return flight;
+    }
+}
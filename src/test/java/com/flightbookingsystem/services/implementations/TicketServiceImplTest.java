@@ -0,0 +1,117 @@
+package com.flightbookingsystem.services.implementations;
+
+import com.flightbookingsystem.data.entity.Flight;
+import com.flightbookingsystem.data.entity.Ticket;
+import com.flightbookingsystem.data.entity.User;
+import com.flightbookingsystem.data.enums.LuggageType;
+import com.flightbookingsystem.data.enums.TravelClass;
+import com.flightbookingsystem.data.repository.TicketRepository;
+import com.flightbookingsystem.dto.update.UpdateTicketDTO;
+import com.flightbookingsystem.exceptions.SeatAlreadyTakenException;
+import com.flightbookingsystem.exceptions.TicketNotFoundException;
+import com.flightbookingsystem.mappers.TicketMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketServiceImplTest {
+    private static final long FLIGHT_ID = 1L;
+    private static final String BOOKING_REFERENCE = "ABC234";
+
+    private final TicketRepository ticketRepository = Mockito.mock(TicketRepository.class);
+    private final SeatInventory seatInventory = new SeatInventory(Mockito.mock(TicketRepository.class));
+    private final TicketServiceImpl ticketService = new TicketServiceImpl(
+            ticketRepository,
+            Mockito.mock(TicketMapper.class),
+            seatInventory,
+            Mockito.mock(TicketConfirmationOutbox.class),
+            new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+            Mockito.mock(BookingSummaryProjection.class),
+            Mockito.mock(FarePricing.class),
+            Mockito.mock(EntityManager.class),
+            new BatchSupport(Mockito.mock(Validator.class)));
+    private final Ticket ticket = bookedTicket("1A");
+
+    TicketServiceImplTest() {
+        seatInventory.tryReserve(FLIGHT_ID, "1A");
+        when(ticketRepository.findById(BOOKING_REFERENCE)).thenReturn(Optional.of(ticket));
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void movesTheHoldToTheNewSeatAndKeepsTheRestOfTheBooking() {
+        Ticket savedTicket = ticketService.updateTicket(BOOKING_REFERENCE, update("2B"));
+
+        assertEquals("2B", savedTicket.getSeat());
+        assertEquals(FLIGHT_ID, savedTicket.getFlight().getId());
+        assertEquals("alice", savedTicket.getUser().getUsername());
+        assertEquals(TravelClass.BUSINESS, savedTicket.getTravelClass());
+        assertEquals(new BigDecimal("250.00"), savedTicket.getPrice());
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+        assertFalse(seatInventory.isAvailable(FLIGHT_ID, "2B"));
+    }
+
+    @Test
+    void keepsTheOldSeatWhenTheNewOneIsTaken() {
+        seatInventory.tryReserve(FLIGHT_ID, "2B");
+
+        assertThrows(SeatAlreadyTakenException.class, () -> ticketService.updateTicket(BOOKING_REFERENCE, update("2B")));
+
+        verify(ticketRepository, never()).save(any());
+        assertEquals("1A", ticket.getSeat());
+        assertFalse(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+    }
+
+    @Test
+    void keepsTheOldSeatWhenTheSaveFails() {
+        when(ticketRepository.save(any(Ticket.class))).thenThrow(new QueryTimeoutException("Lock wait timeout"));
+
+        assertThrows(QueryTimeoutException.class, () -> ticketService.updateTicket(BOOKING_REFERENCE, update("2B")));
+
+        assertEquals("1A", ticket.getSeat());
+        assertFalse(seatInventory.isAvailable(FLIGHT_ID, "1A"));
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "2B"));
+    }
+
+    @Test
+    void rejectsUnknownTickets() {
+        assertThrows(TicketNotFoundException.class, () -> ticketService.updateTicket("XXXXXX", update("2B")));
+        assertTrue(seatInventory.isAvailable(FLIGHT_ID, "2B"));
+    }
+
+    private static UpdateTicketDTO update(String seat) {
+        UpdateTicketDTO updateTicketDTO = new UpdateTicketDTO();
+        updateTicketDTO.setBookingReference(BOOKING_REFERENCE);
+        updateTicketDTO.setSeat(seat);
+        return updateTicketDTO;
+    }
+
+    private static Ticket bookedTicket(String seat) {
+        Flight flight = new Flight();
+        flight.setId(FLIGHT_ID);
+        User user = new User();
+        user.setUsername("alice");
+        Ticket ticket = new Ticket();
+        ticket.setBookingReference(BOOKING_REFERENCE);
+        ticket.setFlight(flight);
+        ticket.setUser(user);
+        ticket.setSeat(seat);
+        ticket.setTravelClass(TravelClass.BUSINESS);
+        ticket.setLuggageType(LuggageType.CABIN);
+        ticket.setPrice(new BigDecimal("250.00"));
+        return ticket;
+    }
+}